@@ -1,6 +1,8 @@
 package Concept; // Organizes class in package
 
+import java.util.Arrays; // Copies and argument checks
 import java.util.Scanner; // Imports Scanner for interactive input
+import java.util.function.IntConsumer; // Callback for range scans
 
 public class AVLTrees { // Declares public class for AVL Tree
 
@@ -8,12 +10,14 @@ public class AVLTrees { // Declares public class for AVL Tree
     private class Node { // Private to encapsulate node structure
         int value; // Node data (AVL key)
         int height; // Height for balance checking
+        int size; // Nodes in this subtree, for rank and select
         Node left; // Left child reference
         Node right; // Right child reference
 
         public Node(int value) { // Constructor for new node
             this.value = value; // Sets value
             this.height = 0; // Initial height (leaf node)
+            this.size = 1; // Just this node
         } // Summary: Creates a leaf node with given value.
 
         public int getValue() { // Getter for value
@@ -22,12 +26,88 @@ public class AVLTrees { // Declares public class for AVL Tree
     } // Summary: Represents an AVL node with value, height, and child pointers.
 
     private Node root; // Root node of the AVL tree
+    private RangeCursor scanCursor; // Idle cursor for forEachInRange, null while a scan holds it
+    private final Node[] path = new Node[64]; // Root-to-node path for insert/delete; AVL height stays below 1.45 log2(n + 2)
 
     // Constructor
     public AVLTrees() { // Initializes empty AVL tree
         // root is null by default
     } // Summary: Creates an empty AVL tree.
 
+    // Constructor that bulk-loads sorted values
+    public AVLTrees(int[] sorted) { // Ascending input, duplicates dropped
+        int[] values = distinctSorted(sorted); // Validates order
+        root = build(values, 0, values.length - 1); // Perfectly balanced
+    } // Summary: Builds the tree directly from sorted input (O(n) time, no rotations).
+
+    // Public method to add a sorted batch of values
+    public void addAllSorted(int[] sorted) { // Ascending input, duplicates dropped
+        int[] batch = distinctSorted(sorted); // Validates order
+        int n = size(); // Current values
+        if ((long) batch.length * (32 - Integer.numberOfLeadingZeros(n + 1)) < n) { // Small batch: each insert is O(log n)
+            for (int value : batch) {
+                insert(value);
+            }
+            return;
+        }
+        int[] merged = new int[n + batch.length]; // Existing values merged with the batch
+        Node[] stack = new Node[root == null ? 0 : root.height + 1]; // In-order walk without recursion
+        int top = 0, count = 0, next = 0; // Stack size, merged size, batch position
+        Node node = root;
+        while (node != null || top > 0) { // Visits existing values in order
+            while (node != null) {
+                stack[top++] = node;
+                node = node.left;
+            }
+            node = stack[--top];
+            while (next < batch.length && batch[next] < node.value) { // Batch values before this one
+                merged[count++] = batch[next++];
+            }
+            if (next < batch.length && batch[next] == node.value) { // Already present
+                next++;
+            }
+            merged[count++] = node.value;
+            node = node.right;
+        }
+        while (next < batch.length) { // Remaining batch values
+            merged[count++] = batch[next++];
+        }
+        root = build(merged, 0, count - 1); // Rebuilt perfectly balanced
+    } // Summary: Flattens, merges with dedupe and rebuilds (O(n + k) time), or inserts one by one when k log n < n.
+
+    // Private method to build a balanced subtree from sorted values
+    private Node build(int[] values, int start, int end) { // values[start..end], ascending
+        if (start > end) { // Empty range
+            return null;
+        }
+        int mid = start + (end - start) / 2; // Middle index (avoid overflow)
+        Node node = new Node(values[mid]); // Middle value as root
+        node.left = build(values, start, mid - 1); // Build left subtree
+        node.right = build(values, mid + 1, end); // Build right subtree
+        node.height = Math.max(height(node.left), height(node.right)) + 1; // Perfect balance
+        node.size = end - start + 1; // Whole range
+        return node; // Return root of subtree
+    } // Summary: Midpoint recursion as in sortedArrayToBST, setting height and size (O(n) time, O(log n) depth).
+
+    // Private method to validate and deduplicate sorted input
+    private static int[] distinctSorted(int[] sorted) { // Copy without repeats
+        if (sorted == null) { // Missing input
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        int length = sorted.length; // Read only after the null check
+        int[] distinct = new int[length];
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && sorted[i] < sorted[i - 1]) { // Not ascending
+                throw new IllegalArgumentException("Input must be sorted ascending (index " + i + ")");
+            }
+            if (count == 0 || sorted[i] != distinct[count - 1]) { // Skips duplicates
+                distinct[count++] = sorted[i];
+            }
+        }
+        return count == length ? distinct : Arrays.copyOf(distinct, count); // Trimmed
+    } // Summary: Checks order and drops duplicates (O(n) time).
+
     // Returns height of a node
     public int height(Node node) { // Computes height for balance checks
         if (node == null) { // Base case: empty subtree
@@ -36,31 +116,301 @@ public class AVLTrees { // Declares public class for AVL Tree
         return node.height; // Returns stored height
     } // Summary: Returns node height (-1 for null, else node.height).
 
+    // Returns subtree size of a node
+    private int size(Node node) { // 0 for null
+        return node == null ? 0 : node.size;
+    } // Summary: Returns stored subtree size.
+
+    // Public method returning the number of values
+    public int size() { // Stored in the root
+        return size(root);
+    } // Summary: Returns value count (O(1) time).
+
     // Checks if tree is empty
     public boolean isEmpty() { // Verifies if AVL tree has no nodes
         return root == null; // True if root is null
     } // Summary: Returns true if tree is empty, false otherwise.
 
     // Public method to insert a value
-    public void insert(int value) { // Initiates insertion into AVL tree
-        root = insert(value, root); // Updates root with new node
-    } // Summary: Calls recursive insert with root and updates tree.
+    public void insert(int value) { // Iterative insertion into AVL tree
+        int depth = 0; // Nodes on path
+        Node node = root;
+        while (node != null) { // Descends, remembering the path
+            if (value == node.value) { // Duplicate value
+                return; // Skips insertion (no duplicates)
+            }
+            path[depth++] = node;
+            node = value < node.value ? node.left : node.right;
+        }
+        Node leaf = new Node(value); // Creates new leaf node
+        if (depth == 0) { // Empty tree
+            root = leaf;
+            return;
+        }
+        Node parent = path[depth - 1]; // Attaches leaf
+        if (value < parent.value) {
+            parent.left = leaf;
+        } else {
+            parent.right = leaf;
+        }
+        for (int i = 0; i < depth; i++) { // Every ancestor gains one node
+            path[i].size++;
+        }
+        rebalancePath(depth, true); // Fixes heights and balance bottom-up
+    } // Summary: Inserts like BST with an explicit path stack, then rebalances upward (O(log n) time).
 
-    // Private recursive method to insert a value
-    private Node insert(int value, Node node) { // Inserts value into subtree
-        if (node == null) { // Base case: empty subtree
-            return new Node(value); // Creates new leaf node
-        } // Returns new node
-        if (value < node.value) { // If value is less than node
-            node.left = insert(value, node.left); // Recurses on left subtree
-        } else if (value > node.value) { // If value is greater
-            node.right = insert(value, node.right); // Recurses on right subtree
-        } else { // Duplicate value
-            return node; // Skips insertion (no duplicates)
-        } // Maintains BST property
-        node.height = Math.max(height(node.left), height(node.right)) + 1; // Updates height
-        return rotate(node); // Balances tree via rotations
-    } // Summary: Inserts value like BST, updates height, balances (O(log n) average).
+    // Private method to update heights and rotate along the recorded path
+    private void rebalancePath(int depth, boolean insertion) { // path[0..depth) from root down
+        for (int i = depth - 1; i >= 0; i--) { // Bottom-up
+            Node node = path[i];
+            int oldHeight = node.height; // Height before this update
+            node.height = Math.max(height(node.left), height(node.right)) + 1; // Updates height
+            Node balanced = rotate(node); // Balances tree via rotations
+            if (balanced != node) { // Subtree root changed: relink parent
+                if (i == 0) {
+                    root = balanced;
+                } else if (path[i - 1].left == node) {
+                    path[i - 1].left = balanced;
+                } else {
+                    path[i - 1].right = balanced;
+                }
+                if (insertion) { // One rotation restores the pre-insert height
+                    return;
+                }
+            } else if (node.height == oldHeight) { // Nothing changed above this node
+                return;
+            }
+        }
+    } // Summary: Stops as soon as a subtree height is unchanged (O(log n) worst case, O(1) amortized for insert).
+
+    // Public method to check if a value is present
+    public boolean contains(int value) { // Iterative search
+        Node node = root; // Starts at root
+        while (node != null) { // Descends one level per step
+            if (value < node.value) {
+                node = node.left; // Goes left
+            } else if (value > node.value) {
+                node = node.right; // Goes right
+            } else {
+                return true; // Found
+            }
+        }
+        return false; // Not found
+    } // Summary: Searches without recursion (O(log n) time).
+
+    // Public method to delete a value
+    public void delete(int value) { // Iterative deletion from AVL tree
+        int depth = 0; // Nodes on path
+        Node node = root;
+        while (node != null && node.value != value) { // Descends, remembering the path
+            path[depth++] = node;
+            node = value < node.value ? node.left : node.right;
+        }
+        if (node == null) { // Value not present
+            return;
+        }
+        if (node.left != null && node.right != null) { // Two children: take the successor's value
+            path[depth++] = node;
+            Node successor = node.right; // Leftmost node of right subtree
+            while (successor.left != null) {
+                path[depth++] = successor;
+                successor = successor.left;
+            }
+            node.value = successor.value; // Copies successor up
+            node = successor; // Successor is removed instead
+        }
+        Node child = node.left != null ? node.left : node.right; // Zero or one child: splice out
+        if (depth == 0) {
+            root = child;
+        } else if (path[depth - 1].left == node) {
+            path[depth - 1].left = child;
+        } else {
+            path[depth - 1].right = child;
+        }
+        for (int i = 0; i < depth; i++) { // Every ancestor of the removed node loses one
+            path[i].size--;
+        }
+        rebalancePath(depth, false); // Fixes heights and balance bottom-up
+    } // Summary: Deletes like BST with an explicit path stack, rebalances ancestors (O(log n) time).
+
+    // Public method for the largest value <= given value
+    public Integer floor(int value) { // null if none, like TreeSet
+        Node best = null; // Best candidate so far
+        Node node = root;
+        while (node != null) {
+            if (node.value == value) { // Exact match
+                return value;
+            }
+            if (node.value < value) { // Candidate, look for a larger one
+                best = node;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return best == null ? null : best.value; // Returns floor
+    } // Summary: Iterative floor (O(log n) time).
+
+    // Public method for the smallest value >= given value
+    public Integer ceiling(int value) { // null if none, like TreeSet
+        Node best = null; // Best candidate so far
+        Node node = root;
+        while (node != null) {
+            if (node.value == value) { // Exact match
+                return value;
+            }
+            if (node.value > value) { // Candidate, look for a smaller one
+                best = node;
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return best == null ? null : best.value; // Returns ceiling
+    } // Summary: Iterative ceiling (O(log n) time).
+
+    // Public method for the smallest value > given value
+    public Integer higher(int value) { // null if none, like TreeSet
+        Node best = null; // Best candidate so far
+        Node node = root;
+        while (node != null) {
+            if (node.value > value) { // Candidate, look for a smaller one
+                best = node;
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return best == null ? null : best.value; // Returns successor
+    } // Summary: Iterative strict successor (O(log n) time).
+
+    // Public method for the largest value < given value
+    public Integer lower(int value) { // null if none, like TreeSet
+        Node best = null; // Best candidate so far
+        Node node = root;
+        while (node != null) {
+            if (node.value < value) { // Candidate, look for a larger one
+                best = node;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return best == null ? null : best.value; // Returns predecessor
+    } // Summary: Iterative strict predecessor (O(log n) time).
+
+    // Public method returning how many values are <= value
+    public int rank(int value) { // 1-based position of value if present
+        return countBelow(value, true);
+    } // Summary: Rank via subtree sizes (O(log n) time).
+
+    // Public method returning the k-th smallest value
+    public int select(int k) { // 1-indexed
+        if (k < 1 || k > size()) { // Out of range
+            throw new IllegalArgumentException("k must be between 1 and " + size());
+        }
+        Node node = root;
+        while (true) { // Descends by left subtree sizes
+            int leftSize = size(node.left);
+            if (k <= leftSize) {
+                node = node.left; // In left subtree
+            } else if (k == leftSize + 1) {
+                return node.value; // This node
+            } else {
+                k -= leftSize + 1; // Skips left subtree and node
+                node = node.right;
+            }
+        }
+    } // Summary: Order statistic via subtree sizes (O(log n) time).
+
+    // Public method counting values in [lo, hi]
+    public int countRange(int lo, int hi) { // Inclusive bounds
+        if (lo > hi) { // Empty range
+            return 0;
+        }
+        return countBelow(hi, true) - countBelow(lo, false); // (<= hi) - (< lo)
+    } // Summary: Two rank walks (O(log n) time).
+
+    // Private method counting values below a bound
+    private int countBelow(int value, boolean inclusive) { // Values < value, or <= value if inclusive
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.value < value || (inclusive && node.value == value)) { // Node and its left subtree count
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count; // Returns count
+    } // Summary: Iterative rank walk (O(log n) time).
+
+    // Public method to create a reusable range cursor
+    public RangeCursor rangeCursor() { // One cursor per scanning thread
+        return new RangeCursor(); // Stack grows only when the tree does
+    } // Summary: Returns a cursor that scans ranges without allocating.
+
+    // Public method to visit every value in [lo, hi] in order
+    public void forEachInRange(int lo, int hi, IntConsumer action) { // Ascending order
+        RangeCursor cursor = scanCursor != null ? scanCursor : new RangeCursor(); // Reused between calls
+        scanCursor = null; // Claimed, so a nested scan from action gets its own cursor
+        try {
+            cursor.reset(lo, hi);
+            while (cursor.hasNext()) {
+                action.accept(cursor.nextInt());
+            }
+        } finally {
+            scanCursor = cursor; // Returned for the next call
+        }
+    } // Summary: In-order scan of a range (O(log n + matches) time, allocates only for nested scans).
+
+    // Public inner class for in-order range scans
+    public class RangeCursor { // Explicit stack instead of recursion or boxed iterators
+        private Node[] stack = new Node[0]; // Left spine of unvisited nodes
+        private int top; // Entries in stack
+        private int hi; // Upper bound (inclusive)
+
+        private RangeCursor() { // Created by rangeCursor()
+        } // Summary: Creates an idle cursor.
+
+        // Public method to start a scan of [lo, hi]
+        public RangeCursor reset(int lo, int hi) { // Descends to the first value >= lo
+            int needed = root == null ? 0 : root.height + 1; // Longest root-to-leaf path
+            if (stack.length < needed) { // Tree grew since the last scan
+                stack = new Node[needed];
+            }
+            top = 0;
+            this.hi = hi;
+            Node node = root;
+            while (node != null) { // Keeps only nodes >= lo on the stack
+                if (node.value >= lo) {
+                    stack[top++] = node;
+                    node = node.left;
+                } else {
+                    node = node.right;
+                }
+            }
+            return this; // Allows chaining
+        } // Summary: Positions cursor at ceiling(lo) (O(log n) time).
+
+        // Public method to check for another value
+        public boolean hasNext() { // Next value exists and is <= hi
+            return top > 0 && stack[top - 1].value <= hi;
+        } // Summary: O(1) check.
+
+        // Public method to return the next value
+        public int nextInt() { // Ascending order
+            if (!hasNext()) {
+                throw new java.util.NoSuchElementException("Range exhausted");
+            }
+            Node node = stack[--top]; // Smallest unvisited
+            for (Node child = node.right; child != null; child = child.left) { // Left spine of right subtree
+                stack[top++] = child;
+            }
+            return node.value; // Returns value
+        } // Summary: Advances in-order (O(1) amortized).
+    } // Summary: Allocation-free range iterator; invalid after the tree is modified until reset.
 
     // Private method to balance node via rotations
     private Node rotate(Node node) { // Checks balance factor and rotates
@@ -91,6 +441,8 @@ public class AVLTrees { // Declares public class for AVL Tree
         newRoot.right = node; // Node becomes new root’s right
         node.height = Math.max(height(node.left), height(node.right)) + 1; // Update node height
         newRoot.height = Math.max(height(newRoot.left), height(newRoot.right)) + 1; // Update new root height
+        newRoot.size = node.size; // Same subtree, new root
+        node.size = size(node.left) + size(node.right) + 1; // Node lost part of its subtree
         return newRoot; // Return new subtree root
     } // Summary: Rotates right to fix LL or LR imbalance (O(1) time).
 
@@ -101,17 +453,11 @@ public class AVLTrees { // Declares public class for AVL Tree
         newRoot.left = node; // Node becomes new root’s left
         node.height = Math.max(height(node.left), height(node.right)) + 1; // Update node height
         newRoot.height = Math.max(height(newRoot.left), height(newRoot.right)) + 1; // Update new root height
+        newRoot.size = node.size; // Same subtree, new root
+        node.size = size(node.left) + size(node.right) + 1; // Node lost part of its subtree
         return newRoot; // Return new subtree root
     } // Summary: Rotates left to fix RR or RL imbalance (O(1) time).
 
-    // Helper method to get tree height for display
-    private int getHeight(Node node) { // Computes height for grid sizing
-        if (node == null) { // Base case: empty tree
-            return 0; // Height 0
-        } // Handles null nodes
-        return 1 + Math.max(getHeight(node.left), getHeight(node.right)); // Height is 1 + max child height
-    } // Summary: Returns tree height for display layout.
-
     // Public method to display tree
     public void display() { // Initiates tree display
         if (root == null) { // Checks for empty tree
@@ -119,7 +465,7 @@ public class AVLTrees { // Declares public class for AVL Tree
             return; // Exits
         } // Handles edge case
         System.out.println("Tree structure:"); // Labels output
-        int height = getHeight(root); // Gets tree height
+        int height = root.height + 1; // Stored height, O(1)
         int width = (int) Math.pow(2, height) * 3; // Compact width for nodes
         char[][] grid = new char[height * 2][width]; // Grid for nodes and branches
         for (int i = 0; i < height * 2; i++) { // Initializes grid
@@ -144,7 +490,7 @@ public class AVLTrees { // Declares public class for AVL Tree
             }
         } // Node value centered at col
         if (node.left != null || node.right != null) { // If node has children
-            int offset = (int) Math.pow(2, getHeight(root) - level - 1); // Tighter spacing
+            int offset = 1 << (height(root) - level); // Tighter spacing, stored height instead of a full walk
             if (node.left != null) { // Place left branch and child
                 if (col - offset >= 0) { // Ensures within grid
                     grid[row + 1][col - offset] = '/'; // Draws / above left child
@@ -176,8 +522,45 @@ public class AVLTrees { // Declares public class for AVL Tree
         } // Skips empty rows
     } // Summary: Prints grid rows, trimming empty ones for clean output.
 
+    // Private benchmark timing large insert and delete workloads
+    private static void benchmark() { // Prints timings
+        AVLTrees tree = new AVLTrees();
+        long begin = System.nanoTime(); // Times inserts
+        for (int i = 0; i < 10_000_000; i++) { // Pseudo-random distinct keys
+            tree.insert(i * 0x9E3779B1);
+        }
+        long insertMs = (System.nanoTime() - begin) / 1_000_000;
+        begin = System.nanoTime(); // Times deletes
+        for (int i = 0; i < 10_000_000; i += 2) { // Half of the keys
+            tree.delete(i * 0x9E3779B1);
+        }
+        long deleteMs = (System.nanoTime() - begin) / 1_000_000;
+        System.out.println("Inserted 10M keys in " + insertMs + " ms, deleted 5M in " + deleteMs + " ms, height "
+                + (tree.height(tree.root) + 1) + ", size " + tree.size());
+        int[] sorted = new int[5_000_000]; // Snapshot of even keys
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = 2 * i;
+        }
+        begin = System.nanoTime(); // Times bulk load
+        AVLTrees loaded = new AVLTrees(sorted);
+        long loadMs = (System.nanoTime() - begin) / 1_000_000;
+        int[] batch = new int[1_000_000]; // Odd keys plus some repeats
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = 4 * i + (i % 2 == 0 ? 1 : 0);
+        }
+        begin = System.nanoTime(); // Times merge load
+        loaded.addAllSorted(batch);
+        long mergeMs = (System.nanoTime() - begin) / 1_000_000;
+        System.out.println("Loaded 5M sorted keys in " + loadMs + " ms, merged 1M in " + mergeMs + " ms, size "
+                + loaded.size());
+    } // Summary: Times 10M inserts, 5M deletes, a 5M bulk load and a 1M merge; run with --bench.
+
     // Main function with test cases
-    public static void main(String[] args) { // Entry point for testing
+    public static void main(String[] args) { // Entry point for testing; pass --bench for timings
+        if (Arrays.asList(args).contains("--bench")) { // Benchmark only
+            benchmark();
+            return;
+        }
         Scanner scanner = new Scanner(System.in); // Scanner for interactive input
 
         // Test Case 1: Interactive AVL construction
@@ -273,6 +656,114 @@ public class AVLTrees { // Declares public class for AVL Tree
         avl8.display(); // Expected: Balanced tree
         System.out.println();
 
+        // Test Case 9: Ordered-map queries
+        System.out.println("Test Case 9: Search, Floor/Ceiling, Range Scan");
+        System.out.println("-----------------------------------------");
+        System.out.println("Contains 60? " + avl8.contains(60) + ", contains 65? " + avl8.contains(65)); // Expected: true, false
+        System.out.println("floor(65)=" + avl8.floor(65) + " ceiling(65)=" + avl8.ceiling(65)
+                + " higher(70)=" + avl8.higher(70) + " lower(20)=" + avl8.lower(20)); // Expected: 60 70 80 null
+        AVLTrees extremes = new AVLTrees(); // Keys at the int limits are ordinary values, not "none"
+        extremes.insert(Integer.MIN_VALUE);
+        extremes.insert(Integer.MAX_VALUE);
+        System.out.println("lower(0)=" + extremes.lower(0) + " lower(MIN)=" + extremes.lower(Integer.MIN_VALUE)
+                + " higher(MAX)=" + extremes.higher(Integer.MAX_VALUE)); // Expected: -2147483648 null null
+        StringBuilder range = new StringBuilder();
+        avl8.forEachInRange(25, 65, v -> range.append(v).append(' ')); // In-order scan
+        System.out.println("Values in [25, 65]: " + range.toString().trim()); // Expected: 30 40 50 60
+        AVLTrees digits = new AVLTrees(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+        int[] visits = new int[2]; // Outer values, inner values
+        digits.forEachInRange(0, 9, v -> { // Scans [v, 9] from inside the callback
+            visits[0]++;
+            digits.forEachInRange(v, 9, w -> visits[1]++);
+        });
+        System.out.println("Nested scans: outer " + visits[0] + ", inner " + visits[1]); // Expected: outer 10, inner 55
+        System.out.println();
+
+        // Test Case 10: Delete with rebalancing
+        System.out.println("Test Case 10: Delete");
+        System.out.println("-----------------------------------------");
+        avl8.delete(20); // Leaf
+        avl8.delete(30); // Now one child
+        avl8.delete(50); // Root with two children
+        avl8.display(); // Expected: Balanced tree of 40 60 70 80
+        java.util.Random random = new java.util.Random(21); // Fixed seed
+        java.util.TreeSet<Integer> reference = new java.util.TreeSet<>(); // Oracle
+        AVLTrees avl10 = new AVLTrees();
+        for (int i = 0; i < 200_000; i++) { // Random inserts and deletes
+            int value = random.nextInt(50_000);
+            if (random.nextBoolean()) {
+                avl10.insert(value);
+                reference.add(value);
+            } else {
+                avl10.delete(value);
+                reference.remove(value);
+            }
+        }
+        boolean matches = true;
+        RangeCursor cursor = avl10.rangeCursor(); // Reused for every check
+        for (int i = 0; i < 1000; i++) {
+            int lo = random.nextInt(50_000), hi = lo + random.nextInt(200);
+            cursor.reset(lo, hi);
+            for (int expected : reference.subSet(lo, true, hi, true)) {
+                matches &= cursor.hasNext() && cursor.nextInt() == expected;
+            }
+            matches &= !cursor.hasNext();
+            matches &= java.util.Objects.equals(avl10.floor(lo), reference.floor(lo));
+            matches &= java.util.Objects.equals(avl10.ceiling(lo), reference.ceiling(lo));
+            matches &= java.util.Objects.equals(avl10.higher(lo), reference.higher(lo));
+            matches &= java.util.Objects.equals(avl10.lower(lo), reference.lower(lo));
+            matches &= avl10.contains(lo) == reference.contains(lo);
+        }
+        System.out.println("Matches TreeSet after 200000 random operations: " + matches); // Expected: true
+        System.out.println("Height: " + (avl10.height(avl10.root) + 1) + " for " + reference.size() + " values");
+        boolean ranks = avl10.size() == reference.size(); // Order statistics after the same operations
+        Integer[] sorted = reference.toArray(new Integer[0]);
+        for (int i = 0; i < 1000; i++) {
+            int k = 1 + random.nextInt(sorted.length), lo = random.nextInt(50_000), hi = lo + random.nextInt(5000);
+            ranks &= avl10.select(k) == sorted[k - 1];
+            ranks &= avl10.rank(sorted[k - 1]) == k;
+            ranks &= avl10.countRange(lo, hi) == reference.subSet(lo, true, hi, true).size();
+        }
+        System.out.println("Rank/select/countRange match TreeSet: " + ranks); // Expected: true
+        System.out.println();
+
+        // Test Case 11: Many inserts and deletes keep the tree balanced (timings: run with --bench)
+        System.out.println("Test Case 11: Inserts and Deletes");
+        System.out.println("-----------------------------------------");
+        AVLTrees avl11 = new AVLTrees();
+        for (int i = 0; i < 200_000; i++) { // Pseudo-random distinct keys
+            avl11.insert(i * 0x9E3779B1);
+        }
+        for (int i = 0; i < 200_000; i += 2) { // Half of the keys
+            avl11.delete(i * 0x9E3779B1);
+        }
+        int height11 = avl11.height(avl11.root) + 1; // Levels
+        System.out.println("Size: " + avl11.size() + ", within AVL height bound: "
+                + (height11 <= 1.4405 * Math.log(avl11.size() + 2) / Math.log(2))); // Expected: Size: 100000, true
+        System.out.println("Contains deleted 0: " + avl11.contains(0) + ", contains kept 0x9E3779B1: "
+                + avl11.contains(0x9E3779B1)); // Expected: false, true
+        System.out.println();
+
+        // Test Case 12: Bulk load from sorted keys (timings: run with --bench)
+        System.out.println("Test Case 12: Bulk Load");
+        System.out.println("-----------------------------------------");
+        int[] sorted12 = new int[50_000]; // Snapshot of even keys
+        for (int i = 0; i < sorted12.length; i++) {
+            sorted12[i] = 2 * i;
+        }
+        AVLTrees avl12 = new AVLTrees(sorted12);
+        int[] batch12 = new int[10_000]; // Odd keys plus some repeats
+        for (int i = 0; i < batch12.length; i++) {
+            batch12[i] = 4 * i + (i % 2 == 0 ? 1 : 0); // Alternates new odd keys and existing even keys
+        }
+        avl12.addAllSorted(batch12); // Large batch: merged and rebuilt
+        System.out.println("Size: " + avl12.size() + ", height: " + (avl12.height(avl12.root) + 1)
+                + ", contains 9: " + avl12.contains(9)); // Expected: Size: 55000, height: 16, contains 9: true
+        AVLTrees small12 = new AVLTrees(new int[] {10, 20, 20, 30}); // Duplicates dropped
+        small12.addAllSorted(new int[] {25}); // Batch is large next to 3 values: merged and rebuilt
+        small12.display(); // Expected: 20 / \ 10 25, 30 under 25
+        System.out.println();
+
         scanner.close(); // Closes scanner to prevent resource leak
     } // Summary: Tests AVL tree with all rotation cases and interactive input.
 }
\ No newline at end of file
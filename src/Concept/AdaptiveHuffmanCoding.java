@@ -0,0 +1,355 @@
+package Concept; // Organizes class in package
+
+import java.io.ByteArrayInputStream; // In-memory streams
+import java.io.ByteArrayOutputStream; // In-memory streams
+import java.io.EOFException; // Truncated input
+import java.io.IOException; // Stream failures
+import java.io.InputStream; // Source of bytes
+import java.io.OutputStream; // Sink of bytes
+
+public class AdaptiveHuffmanCoding { // Single-pass (FGK) Huffman coding over bytes
+
+    // Format: MAGIC, then the bit stream. Each byte is sent as its current code; a byte seen for the first time is
+    // sent as the NYT (not yet transmitted) code plus 9 raw bits. Symbol 256 marks the end, then zero padding.
+    private static final int MAGIC = 0x48554131; // "HUA1"
+    private static final int SYMBOLS = 257; // Byte values plus end-of-stream
+    private static final int EOF = 256; // End-of-stream symbol
+    private static final int SYMBOL_BITS = 9; // Raw bits for a new symbol
+    private static final int NODES = 2 * SYMBOLS - 1; // Full tree over all symbols
+    private static final int BUFFER_SIZE = 1 << 16; // I/O buffer size
+    private static final int ROOT = 0; // Root node id, never moves
+
+    private final long[] weight = new long[NODES]; // Occurrences below each node
+    private final int[] parent = new int[NODES]; // Parent id, -1 for the root
+    private final int[] left = new int[NODES]; // Left child id, -1 for leaves
+    private final int[] right = new int[NODES]; // Right child id, -1 for leaves
+    private final int[] symbol = new int[NODES]; // Symbol of a leaf, -1 otherwise
+    private final int[] number = new int[NODES]; // Sibling-property order: weights never decrease with number
+    private final int[] byNumber = new int[NODES]; // Node id holding each order number
+    private final int[] leafOf = new int[SYMBOLS]; // Leaf id per symbol, -1 until first seen
+    private final int[] path = new int[NODES]; // Scratch for emitting a code leaf-to-root
+    private int nyt = ROOT; // Leaf standing for all unseen symbols
+    private int nodes = 1; // Node ids in use
+
+    // Constructor for an empty model
+    private AdaptiveHuffmanCoding() { // Encoder and decoder start from the same state
+        java.util.Arrays.fill(leafOf, -1); // Nothing seen yet
+        parent[ROOT] = -1;
+        left[ROOT] = right[ROOT] = -1; // Root starts as the NYT leaf
+        symbol[ROOT] = -1;
+        number[ROOT] = NODES - 1; // Highest number
+        byNumber[NODES - 1] = ROOT;
+    } // Summary: Creates a tree holding only the NYT leaf.
+
+    // Public method to compress a stream in a single pass
+    public static void compress(InputStream in, OutputStream out) throws IOException { // Compresses in to out
+        AdaptiveHuffmanCoding model = new AdaptiveHuffmanCoding(); // Fresh tree
+        BitWriter writer = new BitWriter(out); // Packs bits
+        writer.write(MAGIC, 32); // Format marker
+        byte[] buffer = new byte[BUFFER_SIZE]; // Input chunk
+        int read;
+        while ((read = in.read(buffer)) != -1) { // Encodes whatever has arrived, no look-ahead
+            for (int i = 0; i < read; i++) {
+                int b = buffer[i] & 0xFF;
+                model.encode(b, writer); // Current code
+                model.update(b); // Adapts tree
+            }
+            writer.flushBytes(); // Completed bytes go out before the next read blocks
+        }
+        model.encode(EOF, writer); // End marker
+        writer.finish(); // Pads last byte and flushes
+    } // Summary: Emits codes as bytes arrive, so output starts before the input ends (O(n * depth) time).
+
+    // Public method to decompress a stream
+    public static void decompress(InputStream in, OutputStream out) throws IOException { // Inverse of compress
+        AdaptiveHuffmanCoding model = new AdaptiveHuffmanCoding(); // Same start state as the encoder
+        BitReader reader = new BitReader(in); // Unpacks bits
+        if (reader.read(32) != MAGIC) { // Wrong format
+            throw new IOException("Not an adaptive Huffman stream");
+        }
+        byte[] buffer = new byte[BUFFER_SIZE]; // Output chunk
+        int count = 0; // Bytes in buffer
+        while (true) {
+            int node = ROOT; // Walks from the root to a leaf
+            while (model.left[node] >= 0) { // Internal node: one bit per level
+                node = reader.readBit() == 0 ? model.left[node] : model.right[node];
+            }
+            int s = node == model.nyt ? reader.read(SYMBOL_BITS) : model.symbol[node]; // New symbols come raw
+            if (s == EOF) { // End marker
+                break;
+            }
+            if (s > EOF || (node == model.nyt && model.leafOf[s] >= 0)) { // Raw symbol out of range or already seen
+                throw new IOException("Corrupt adaptive Huffman stream");
+            }
+            buffer[count++] = (byte) s;
+            if (count == buffer.length) { // Emits full chunk
+                out.write(buffer, 0, count);
+                count = 0;
+            }
+            model.update(s); // Adapts tree exactly like the encoder
+        }
+        out.write(buffer, 0, count); // Remaining bytes
+        out.flush(); // Pushes output
+    } // Summary: Mirrors every tree update of the encoder (O(n * depth) time).
+
+    // Public method to compress a byte array
+    public static byte[] compress(byte[] data) { // In-memory convenience
+        ByteArrayOutputStream out = new ByteArrayOutputStream(); // Collects output
+        try {
+            compress(new ByteArrayInputStream(data), out);
+        } catch (IOException e) { // In-memory streams do not fail
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray(); // Returns compressed bytes
+    } // Summary: Compresses a whole array.
+
+    // Public method to decompress a byte array
+    public static byte[] decompress(byte[] data) throws IOException { // In-memory convenience
+        ByteArrayOutputStream out = new ByteArrayOutputStream(); // Collects output
+        decompress(new ByteArrayInputStream(data), out);
+        return out.toByteArray(); // Returns original bytes
+    } // Summary: Decompresses a whole array; throws on corrupt input.
+
+    // Private method to write the current code of a symbol
+    private void encode(int s, BitWriter writer) throws IOException { // Code first, then tree update
+        int node = leafOf[s] >= 0 ? leafOf[s] : nyt; // Unseen symbols go through NYT
+        int depth = 0; // Code length
+        for (int n = node; n != ROOT; n = parent[n]) { // Collects bits leaf-to-root
+            path[depth++] = n == right[parent[n]] ? 1 : 0;
+        }
+        while (depth > 0) { // Emits root-to-leaf
+            writer.writeBit(path[--depth]);
+        }
+        if (node == nyt) { // Symbol itself follows the NYT code
+            writer.write(s, SYMBOL_BITS);
+        }
+    } // Summary: Writes the symbol's code in the current tree (O(depth)).
+
+    // Private method to add one occurrence of a symbol
+    private void update(int s) { // FGK update
+        int node = leafOf[s] >= 0 ? leafOf[s] : splitNyt(s); // Leaf to increment
+        while (true) {
+            int leader = node; // Highest-numbered node of equal weight
+            for (int n = number[node] + 1; n < NODES && weight[byNumber[n]] == weight[node]; n++) {
+                leader = byNumber[n];
+            }
+            if (leader != node && leader != parent[node]) { // Moves node to the end of its weight block
+                swap(node, leader);
+            }
+            weight[node]++; // Keeps weights ordered by number
+            if (node == ROOT) {
+                break;
+            }
+            node = parent[node]; // Next ancestor
+        }
+    } // Summary: Increments weights up to the root, swapping to keep the sibling property (O(depth * block)).
+
+    // Private method to give a new symbol its own leaf
+    private int splitNyt(int s) { // NYT becomes internal with children NYT and the new leaf
+        int old = nyt; // Current NYT
+        int zero = nodes++; // New NYT
+        int leaf = nodes++; // New symbol leaf
+        left[old] = zero;
+        right[old] = leaf;
+        parent[zero] = parent[leaf] = old;
+        left[zero] = right[zero] = left[leaf] = right[leaf] = -1;
+        symbol[zero] = -1;
+        symbol[leaf] = s;
+        number[leaf] = number[old] - 1; // Just below the old NYT
+        number[zero] = number[old] - 2;
+        byNumber[number[leaf]] = leaf;
+        byNumber[number[zero]] = zero;
+        leafOf[s] = leaf;
+        nyt = zero;
+        return leaf; // Returns leaf to increment
+    } // Summary: Adds a weight-0 leaf for s (O(1)).
+
+    // Private method to exchange two subtrees
+    private void swap(int a, int b) { // Neither is an ancestor of the other
+        int pa = parent[a], pb = parent[b]; // Parents before the swap
+        if (pa == pb) { // Siblings: flip children
+            left[pa] = left[pa] == a ? b : a;
+            right[pa] = right[pa] == a ? b : a;
+        } else {
+            if (left[pa] == a) { // b takes a's place
+                left[pa] = b;
+            } else {
+                right[pa] = b;
+            }
+            if (left[pb] == b) { // a takes b's place
+                left[pb] = a;
+            } else {
+                right[pb] = a;
+            }
+            parent[a] = pb;
+            parent[b] = pa;
+        }
+        int na = number[a]; // Exchanges order numbers
+        number[a] = number[b];
+        number[b] = na;
+        byNumber[number[a]] = a;
+        byNumber[number[b]] = b;
+    } // Summary: Swaps positions and order numbers of two nodes (O(1)).
+
+    // Buffered bit writer
+    private static class BitWriter { // MSB-first bit packing
+        private final OutputStream out; // Sink
+        private final byte[] buffer = new byte[BUFFER_SIZE]; // Completed bytes
+        private int count; // Bytes in buffer
+        private long bits; // Pending bits at the bottom
+        private int pending; // Number of pending bits
+
+        BitWriter(OutputStream out) { // Constructor
+            this.out = out;
+        } // Summary: Wraps a sink.
+
+        void writeBit(int bit) throws IOException { // Appends one bit
+            bits = (bits << 1) | bit;
+            if (++pending == 8) {
+                put();
+            }
+        } // Summary: Writes a single bit.
+
+        void write(int value, int width) throws IOException { // Appends the low width bits of value
+            for (int i = width - 1; i >= 0; i--) {
+                writeBit((value >>> i) & 1);
+            }
+        } // Summary: Writes width bits, most significant first.
+
+        private void put() throws IOException { // Moves a full byte into the buffer
+            buffer[count++] = (byte) bits;
+            bits = 0;
+            pending = 0;
+            if (count == buffer.length) {
+                out.write(buffer, 0, count);
+                count = 0;
+            }
+        } // Summary: Emits one byte.
+
+        void flushBytes() throws IOException { // Sends completed bytes, keeps a partial byte
+            out.write(buffer, 0, count);
+            count = 0;
+            out.flush();
+        } // Summary: Lets the reader see everything encoded so far, minus at most 7 bits.
+
+        void finish() throws IOException { // Pads and flushes
+            while (pending != 0) {
+                writeBit(0);
+            }
+            flushBytes();
+        } // Summary: Zero-pads to a whole byte and flushes.
+    } // Summary: Bit output.
+
+    // Buffered bit reader
+    private static class BitReader { // MSB-first bit unpacking
+        private final InputStream in; // Source
+        private final byte[] buffer = new byte[BUFFER_SIZE]; // Raw bytes
+        private int pos; // Next byte in buffer
+        private int limit; // Bytes in buffer
+        private int current; // Byte being consumed
+        private int left; // Unread bits of current
+
+        BitReader(InputStream in) { // Constructor
+            this.in = in;
+        } // Summary: Wraps a source.
+
+        int readBit() throws IOException { // Next bit
+            if (left == 0) { // Loads next byte
+                if (pos == limit) {
+                    limit = in.read(buffer);
+                    pos = 0;
+                    if (limit <= 0) { // Stream ended before the end marker
+                        limit = 0;
+                        throw new EOFException("Adaptive Huffman stream ended without end marker");
+                    }
+                }
+                current = buffer[pos++] & 0xFF;
+                left = 8;
+            }
+            return (current >>> --left) & 1;
+        } // Summary: Reads one bit.
+
+        int read(int width) throws IOException { // Next width bits as an int
+            int value = 0;
+            for (int i = 0; i < width; i++) {
+                value = (value << 1) | readBit();
+            }
+            return value;
+        } // Summary: Reads width bits, most significant first.
+    } // Summary: Bit input.
+
+    // Main function with test cases
+    public static void main(String[] args) throws IOException { // Entry point for testing
+        // Test Case 1: Round trip of text
+        System.out.println("Test Case 1: Round Trip");
+        System.out.println("-----------------------------");
+        byte[] text = "abracadabra, abracadabra, abracadabra!".getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+        byte[] packed = compress(text); // Single pass
+        System.out.println(text.length + " bytes -> " + packed.length + " bytes");
+        System.out.println("Round trip: " + java.util.Arrays.equals(decompress(packed), text)); // Expected: true
+        System.out.println();
+
+        // Test Case 2: Output starts before the input ends
+        System.out.println("Test Case 2: Streaming");
+        System.out.println("-----------------------------");
+        ByteArrayOutputStream sink = new ByteArrayOutputStream(); // Collects output
+        byte[] part = "hello hello hello ".getBytes(java.nio.charset.StandardCharsets.US_ASCII); // One chunk
+        byte[] whole = new byte[3 * part.length]; // Three chunks back to back
+        for (int c = 0; c < 3; c++) {
+            System.arraycopy(part, 0, whole, c * part.length, part.length);
+        }
+        byte[][] afterFirst = new byte[1][]; // Output seen when the second chunk is requested
+        InputStream slow = new ByteArrayInputStream(whole) { // Delivers one chunk per read, like a socket
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                if (pos == part.length) { // Second read: the first chunk must already be encoded
+                    afterFirst[0] = sink.toByteArray();
+                }
+                return super.read(b, off, Math.min(len, part.length));
+            }
+        };
+        compress(slow, sink);
+        byte[] streamed = sink.toByteArray(); // Full output
+        byte[] oneShot = compress(whole); // Same bytes compressed in memory
+        System.out.println("Bytes written after first chunk: " + afterFirst[0].length); // Expected: 15 (4-byte magic plus the first chunk's whole bytes)
+        System.out.println("Prefix of final output: "
+                + java.util.Arrays.equals(afterFirst[0], java.util.Arrays.copyOf(oneShot, afterFirst[0].length))); // Expected: true
+        System.out.println("Same output as in-memory compress: " + java.util.Arrays.equals(streamed, oneShot)
+                + ", " + streamed.length + " bytes"); // Expected: true, 28 bytes
+        System.out.println("Round trip: " + java.util.Arrays.equals(decompress(streamed), whole)); // Expected: true
+        System.out.println();
+
+        // Test Case 3: Skewed bytes against the two-pass static coder
+        System.out.println("Test Case 3: Compression Ratio");
+        System.out.println("-----------------------------");
+        java.util.Random random = new java.util.Random(18); // Fixed seed
+        byte[] data = new byte[1 << 20]; // 1 MB of skewed bytes
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (random.nextInt(8) == 0 ? random.nextInt(256) : 'a' + random.nextInt(4));
+        }
+        long begin = System.nanoTime(); // Times compression
+        byte[] adaptive = compress(data);
+        long ms = (System.nanoTime() - begin) / 1_000_000;
+        ByteArrayOutputStream fixed = new ByteArrayOutputStream(); // Static coder for comparison
+        HuffmanStream.compress(new ByteArrayInputStream(data), fixed);
+        System.out.println("Adaptive: " + adaptive.length + " bytes in " + ms + " ms, static: " + fixed.size() + " bytes");
+        System.out.println("Round trip: " + java.util.Arrays.equals(decompress(adaptive), data)); // Expected: true
+        System.out.println();
+
+        // Test Case 4: Empty input and every byte value
+        System.out.println("Test Case 4: Edge Cases");
+        System.out.println("-----------------------------");
+        System.out.println("Empty round trip: " + (decompress(compress(new byte[0])).length == 0)); // Expected: true
+        byte[] all = new byte[512]; // Every byte value twice
+        for (int i = 0; i < all.length; i++) {
+            all[i] = (byte) i;
+        }
+        System.out.println("All bytes round trip: " + java.util.Arrays.equals(decompress(compress(all)), all)); // Expected: true
+        try {
+            byte[] cut = compress(text); // Truncated stream
+            decompress(java.util.Arrays.copyOf(cut, cut.length - 3));
+        } catch (IOException e) { // EOFException, or a corrupt code from the cut bits
+            System.out.println("Truncated: " + e.getMessage()); // Expected: ended without end marker
+        }
+    } // Summary: Tests round trips, streaming output, ratio and edge cases.
+}
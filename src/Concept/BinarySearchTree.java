@@ -1,6 +1,7 @@
 package Concept;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Scanner;
 
 public class BinarySearchTree {
@@ -13,6 +14,8 @@ public class BinarySearchTree {
 
         int height; // Height for balance checking
 
+        int size; // Nodes in this subtree, for rank and select
+
         Node left; // Left child reference
 
         Node right; // Right child reference
@@ -20,6 +23,7 @@ public class BinarySearchTree {
         public Node(int value) {
             this.value = value;
             this.height = 0; // Initial height (leaf node)
+            this.size = 1; // Just this node
         } // Summary: Creates a leaf node with given value.
 
         public int getValue() { // Getter for value
@@ -34,6 +38,80 @@ public class BinarySearchTree {
 
     } // Summary: Creates an empty Binary Search Tree.
 
+    // Constructor that bulk-loads sorted values
+    public BinarySearchTree(int[] sorted) { // Ascending input, duplicates dropped
+        int[] values = distinctSorted(sorted); // Validates order
+        root = build(values, 0, values.length - 1); // Perfectly balanced
+    } // Summary: Builds the tree directly from sorted input (O(n) time, no per-key descents).
+
+    // Public method to add a sorted batch of values
+    public void addAllSorted(int[] sorted) { // Ascending input, duplicates dropped
+        int[] batch = distinctSorted(sorted); // Validates order
+        int n = size(); // Current values
+        if ((long) batch.length * (height(root) + 1) < n) { // Small batch: each insert descends the actual height, which can exceed log n
+            for (int value : batch) {
+                insert(value);
+            }
+            return;
+        }
+        int[] merged = new int[n + batch.length]; // Existing values merged with the batch
+        Node[] stack = new Node[root == null ? 0 : root.height + 1]; // In-order walk without recursion
+        int top = 0, count = 0, next = 0; // Stack size, merged size, batch position
+        Node node = root;
+        while (node != null || top > 0) { // Visits existing values in order
+            while (node != null) {
+                stack[top++] = node;
+                node = node.left;
+            }
+            node = stack[--top];
+            while (next < batch.length && batch[next] < node.value) { // Batch values before this one
+                merged[count++] = batch[next++];
+            }
+            if (next < batch.length && batch[next] == node.value) { // Already present
+                next++;
+            }
+            merged[count++] = node.value;
+            node = node.right;
+        }
+        while (next < batch.length) { // Remaining batch values
+            merged[count++] = batch[next++];
+        }
+        root = build(merged, 0, count - 1); // Rebuilt perfectly balanced
+    } // Summary: Flattens, merges with dedupe and rebuilds (O(n + k) time), or inserts one by one when k * height < n.
+
+    // Private method to build a balanced subtree from sorted values
+    private Node build(int[] values, int start, int end) { // values[start..end], ascending
+        if (start > end) { // Empty range
+            return null;
+        }
+        int mid = start + (end - start) / 2; // Middle index (avoid overflow)
+        Node node = new Node(values[mid]); // Middle value as root
+        node.left = build(values, start, mid - 1); // Build left subtree
+        node.right = build(values, mid + 1, end); // Build right subtree
+        node.height = Math.max(height(node.left), height(node.right)) + 1; // Balanced by construction
+        node.size = end - start + 1; // Whole range
+        return node; // Return root of subtree
+    } // Summary: Midpoint recursion as in sortedArrayToBST, setting height and size (O(n) time, O(log n) depth).
+
+    // Private method to validate and deduplicate sorted input
+    private static int[] distinctSorted(int[] sorted) { // Copy without repeats
+        if (sorted == null) { // Missing input
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        int length = sorted.length; // Read only after the null check
+        int[] distinct = new int[length];
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && sorted[i] < sorted[i - 1]) { // Not ascending
+                throw new IllegalArgumentException("Input must be sorted ascending (index " + i + ")");
+            }
+            if (count == 0 || sorted[i] != distinct[count - 1]) { // Skips duplicates
+                distinct[count++] = sorted[i];
+            }
+        }
+        return count == length ? distinct : Arrays.copyOf(distinct, count); // Trimmed
+    } // Summary: Checks order and drops duplicates (O(n) time).
+
     // Returns height of a node
     public int height(Node node) { // Computes height for balance checks
         if (node == null) { // Base case: empty subtree
@@ -68,9 +146,73 @@ public class BinarySearchTree {
             return node; // Skips insertion (no duplicates)
         } // Maintains BST property
         node.height = Math.max(height(node.left), height(node.right)) + 1; // Updates height
+        node.size = size(node.left) + size(node.right) + 1; // Updates subtree size
         return node; // Returns current node
     } // Summary: Recursively inserts value, updates height, skips duplicates (O(h) time, h = height).
 
+    // Returns subtree size of a node
+    private int size(Node node) { // 0 for null
+        return node == null ? 0 : node.size;
+    } // Summary: Returns stored subtree size.
+
+
+    // Public method returning the number of values
+    public int size() { // Stored in the root
+        return size(root);
+    } // Summary: Returns value count (O(1) time).
+
+
+    // Public method returning how many values are <= value
+    public int rank(int value) { // 1-based position of value if present
+        return countBelow(value, true);
+    } // Summary: Rank via subtree sizes (O(h) time).
+
+
+    // Public method returning the k-th smallest value
+    public int select(int k) { // 1-indexed
+        if (k < 1 || k > size()) { // Out of range
+            throw new IllegalArgumentException("k must be between 1 and " + size());
+        }
+        Node node = root;
+        while (true) { // Descends by left subtree sizes
+            int leftSize = size(node.left);
+            if (k <= leftSize) {
+                node = node.left; // In left subtree
+            } else if (k == leftSize + 1) {
+                return node.value; // This node
+            } else {
+                k -= leftSize + 1; // Skips left subtree and node
+                node = node.right;
+            }
+        }
+    } // Summary: Order statistic via subtree sizes (O(h) time).
+
+
+    // Public method counting values in [lo, hi]
+    public int countRange(int lo, int hi) { // Inclusive bounds
+        if (lo > hi) { // Empty range
+            return 0;
+        }
+        return countBelow(hi, true) - countBelow(lo, false); // (<= hi) - (< lo)
+    } // Summary: Two rank walks (O(h) time).
+
+
+    // Private method counting values below a bound
+    private int countBelow(int value, boolean inclusive) { // Values < value, or <= value if inclusive
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.value < value || (inclusive && node.value == value)) { // Node and its left subtree count
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count; // Returns count
+    } // Summary: Iterative rank walk (O(h) time).
+
+
     // Checks if tree is height-balanced
     public boolean balanced() { // Initiates balance check
         return balanced(root); // Calls recursive balanced
@@ -332,6 +474,41 @@ public class BinarySearchTree {
         bst7.display(); // Expected: Mixed structure
         System.out.println();
 
+        // Test Case 8: Order statistics
+        System.out.println("Test Case 8: Rank, Select, Count in Range");
+        System.out.println("-----------------------------------------");
+        System.out.println("Size: " + bst7.size()); // Expected: 7
+        System.out.println("3rd smallest: " + bst7.select(3) + ", rank(60): " + bst7.rank(60)); // Expected: 30, 5
+        System.out.println("Values in [25, 70]: " + bst7.countRange(25, 70)); // Expected: 5
+        bst7.insert(60); // Duplicate leaves sizes unchanged
+        System.out.println("Size after duplicate insert: " + bst7.size()); // Expected: 7
+        System.out.println();
+
+        // Test Case 9: Bulk load from sorted keys
+        System.out.println("Test Case 9: Bulk Load");
+        System.out.println("-----------------------------------------");
+        BinarySearchTree bst9 = new BinarySearchTree(new int[] {10, 20, 30, 40, 50, 60, 70}); // Sorted input
+        System.out.println("Is tree balanced? " + bst9.balanced()); // Expected: true
+        bst9.preOrder(); // Expected: [40, 20, 10, 30, 60, 50, 70]
+        bst9.addAllSorted(new int[] {15, 25, 35, 40, 45, 55, 65, 75}); // Large batch: merged and rebuilt
+        System.out.println("Size: " + bst9.size() + ", balanced? " + bst9.balanced()); // Expected: 14, true
+        bst9.inOrder(); // Expected: [10, 15, 20, 25, 30, 35, 40, 45, 50, 55, 60, 65, 70, 75]
+        int[] sorted9 = new int[1_000_000]; // Sorted keys that would make a 1M-deep chain with insert
+        for (int i = 0; i < sorted9.length; i++) {
+            sorted9[i] = i;
+        }
+        BinarySearchTree bst9b = new BinarySearchTree(sorted9);
+        System.out.println("1M sorted keys: height " + (bst9b.height(bst9b.root) + 1) + ", select(500000) = "
+                + bst9b.select(500_000)); // Expected: height 20, select(500000) = 499999
+        BinarySearchTree chain9 = new BinarySearchTree(); // Sorted inserts degrade to a 2000-deep chain
+        for (int i = 0; i < 2000; i++) {
+            chain9.insert(2 * i);
+        }
+        chain9.addAllSorted(new int[] {1, 3, 5, 7, 9, 11, 13, 15, 17, 19}); // 10 keys * height 2000 > n: rebuilt
+        System.out.println("Chain after small batch: size " + chain9.size() + ", height "
+                + (chain9.height(chain9.root) + 1)); // Expected: size 2010, height 11
+        System.out.println();
+
         scanner.close(); // Closes scanner to prevent resource leak
     } // Summary: Tests BST with traversals, interactive input, empty, single node, balanced, skewed, and complex trees.
 }
\ No newline at end of file
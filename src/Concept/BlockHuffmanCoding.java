@@ -0,0 +1,291 @@
+package Concept; // Organizes class in package
+
+import java.nio.ByteBuffer; // Reads and writes the container header
+import java.util.Arrays; // For trimming histograms
+import java.util.concurrent.ForkJoinPool; // Runs block tasks
+import java.util.concurrent.RecursiveAction; // Splits block ranges
+import java.util.function.IntConsumer; // Work done per block
+
+public class BlockHuffmanCoding { // Chunked Huffman container with parallel and random-access decoding
+
+    // Container layout (big-endian):
+    // MAGIC, code-length header size, HuffmanCoding.codeLengthHeader(), block size, total chars, block count,
+    // then (payload offset, payload length) per block, then the payloads (HuffmanCoding.encodeToBytes output each)
+    private static final int MAGIC = 0x48554232; // "HUB2"
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 16; // Chars per block
+
+    private BlockHuffmanCoding() { // Static utility
+    } // Summary: Prevents instantiation.
+
+    // Public method to compress with the default block size
+    public static byte[] compress(String input, ForkJoinPool pool) { // Compresses on pool's workers
+        return compress(input, DEFAULT_BLOCK_SIZE, pool); // Default blocks
+    } // Summary: Compresses input into a block container.
+
+    // Public method to compress with a chosen block size
+    public static byte[] compress(String input, int blockSize, ForkJoinPool pool) { // Compresses on pool's workers
+        if (input == null || input.isEmpty()) { // Validates input
+            throw new IllegalArgumentException("Input string cannot be null or empty");
+        }
+        if (blockSize <= 0) { // Validates block size
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        int[] freq = HuffmanCoding.countCharsParallel(input, pool); // One shared code for all blocks
+        int maxChar = freq.length - 1; // Largest char present
+        while (freq[maxChar] == 0) {
+            maxChar--;
+        }
+        HuffmanCoding coder = HuffmanCoding.fromFrequencies(Arrays.copyOf(freq, maxChar + 1)); // Canonical codes
+        byte[] header = coder.codeLengthHeader(); // Code lengths
+        int blocks = (input.length() + blockSize - 1) / blockSize; // Block count
+        byte[][] payloads = new byte[blocks][]; // Encoded blocks
+        forEachBlock(pool, blocks, b -> { // Encodes blocks independently
+            int begin = b * blockSize;
+            payloads[b] = coder.encodeToBytes(input, begin, Math.min(begin + blockSize, input.length()));
+        });
+        int indexStart = 4 + 4 + header.length + 4 + 4 + 4; // Bytes before the block index
+        long total = indexStart + 8L * blocks; // Header plus index
+        for (byte[] payload : payloads) {
+            total += payload.length;
+        }
+        if (total > Integer.MAX_VALUE - 16) { // Beyond a Java array
+            throw new IllegalArgumentException("Compressed output too large for a byte array");
+        }
+        ByteBuffer out = ByteBuffer.allocate((int) total); // Whole container
+        out.putInt(MAGIC).putInt(header.length).put(header); // Code description
+        out.putInt(blockSize).putInt(input.length()).putInt(blocks); // Geometry
+        int offset = indexStart + 8 * blocks; // First payload position
+        for (byte[] payload : payloads) { // Offset index for random access
+            out.putInt(offset).putInt(payload.length);
+            offset += payload.length;
+        }
+        for (byte[] payload : payloads) { // Payloads in block order
+            out.put(payload);
+        }
+        return out.array(); // Returns container
+    } // Summary: Parallel histogram, one canonical code, blocks encoded in parallel (O(n / cores) time).
+
+    // Public method to decompress a whole container
+    public static String decompress(byte[] container, ForkJoinPool pool) { // Decodes on pool's workers
+        return open(container).decompress(pool); // Parses once, decodes all blocks
+    } // Summary: Decodes all blocks in parallel into one string.
+
+    // Public method to decompress a single block
+    public static String decompressBlock(byte[] container, int block) { // One-off random access
+        return open(container).decompressBlock(block); // Use open() once when reading several blocks
+    } // Summary: Parses the container and decodes one block; open() avoids re-parsing per block.
+
+    // Public method returning the number of blocks
+    public static int blockCount(byte[] container) { // Reads geometry
+        return open(container).blockCount();
+    } // Summary: Returns how many blocks the container holds.
+
+    // Public factory parsing a container once for repeated access
+    public static Reader open(byte[] container) { // Validates header and index
+        return new Reader(container);
+    } // Summary: Returns a reader whose block accesses skip header parsing.
+
+    // Parsed container header and block index
+    public static final class Reader { // Read-only view of a validated container
+        private final byte[] container; // Source bytes
+        private final HuffmanCoding coder; // Decoder rebuilt from code lengths
+        private final int blockSize; // Chars per block
+        private final int totalChars; // Chars overall
+        private final int blocks; // Block count
+        private final int[] offsets; // Payload start per block
+        private final int[] lengths; // Payload length per block
+
+        private Reader(byte[] container) { // Parses and validates header and index
+            if (container == null || container.length < 8) { // Too short for magic and header size
+                throw new IllegalArgumentException("Not a block Huffman container");
+            }
+            ByteBuffer in = ByteBuffer.wrap(container); // Big-endian reader
+            if (in.getInt() != MAGIC) { // Wrong format
+                throw new IllegalArgumentException("Not a block Huffman container");
+            }
+            int headerLength = in.getInt(); // Code-length header size
+            if (headerLength < 2 || headerLength > in.remaining() - 12) { // Header plus geometry must fit
+                throw new IllegalArgumentException("Truncated container: header length " + headerLength);
+            }
+            byte[] header = new byte[headerLength]; // Code-length header
+            in.get(header);
+            coder = HuffmanCoding.fromHeader(header); // Throws IllegalArgumentException on invalid lengths
+            blockSize = in.getInt();
+            totalChars = in.getInt();
+            blocks = in.getInt();
+            if (blockSize <= 0 || totalChars < 0 || blocks != (totalChars + (long) blockSize - 1) / blockSize) { // Geometry
+                throw new IllegalArgumentException("Corrupt container geometry");
+            }
+            if (8L * blocks > in.remaining()) { // Block index must fit
+                throw new IllegalArgumentException("Truncated container: block index");
+            }
+            int payloadStart = in.position() + 8 * blocks; // Payloads follow the index
+            offsets = new int[blocks];
+            lengths = new int[blocks];
+            for (int b = 0; b < blocks; b++) { // Block index
+                offsets[b] = in.getInt();
+                lengths[b] = in.getInt();
+                if (offsets[b] < payloadStart || lengths[b] < 8 || (long) offsets[b] + lengths[b] > container.length) {
+                    throw new IllegalArgumentException("Block " + b + " lies outside the container");
+                }
+                if (expectedLength(b) > 8L * (lengths[b] - 8)) { // Every char costs at least one bit
+                    throw new IllegalArgumentException("Block " + b + " claims more chars than its payload can hold");
+                }
+            }
+            this.container = container; // Kept for decoding
+        } // Summary: Reads everything needed to decode any block, rejecting truncated, corrupt or oversized input.
+
+        // Public method returning the number of blocks
+        public int blockCount() { // Geometry
+            return blocks;
+        } // Summary: Returns how many blocks the container holds.
+
+        // Private method returning the chars block b must decode to
+        private int expectedLength(int b) { // Last block may be short
+            return Math.min(blockSize, totalChars - b * blockSize);
+        } // Summary: Returns min(blockSize, total - b * blockSize).
+
+        // Private method decoding one block and checking its length
+        private String decode(int b) { // Decodes block b
+            String block = coder.decode(container, offsets[b], lengths[b]); // Only this block
+            if (block.length() != expectedLength(b)) { // Payload disagrees with geometry
+                throw new IllegalArgumentException("Block " + b + " decoded to " + block.length()
+                        + " chars, expected " + expectedLength(b));
+            }
+            return block; // Returns text
+        } // Summary: Decodes block b, rejecting payloads of the wrong length.
+
+        // Public method to decompress a single block
+        public String decompressBlock(int block) { // Random access
+            if (block < 0 || block >= blocks) { // Invalid block
+                throw new IndexOutOfBoundsException("Block " + block + " out of bounds for " + blocks + " blocks");
+            }
+            return decode(block);
+        } // Summary: Decodes one block without touching the others (O(block size)).
+
+        // Public method to decompress every block
+        public String decompress(ForkJoinPool pool) { // Decodes on pool's workers
+            char[] out = new char[totalChars]; // Whole output
+            forEachBlock(pool, blocks, b -> { // Decodes blocks independently
+                String block = decode(b); // Length already checked
+                block.getChars(0, block.length(), out, b * blockSize); // Copies into place
+            });
+            return new String(out); // Returns text
+        } // Summary: Decodes all blocks in parallel into one string.
+    } // Summary: Container metadata plus block decoding.
+
+    // Private method running an action for every block on the pool
+    private static void forEachBlock(ForkJoinPool pool, int blocks, IntConsumer action) { // Parallel loop
+        pool.invoke(new BlockTask(0, blocks, action)); // Splits block range
+    } // Summary: Runs action(b) for b in [0, blocks) on the pool.
+
+    // Fork/join task over a range of blocks
+    private static class BlockTask extends RecursiveAction { // Splits until one block per task
+        private static final long serialVersionUID = 1L; // ForkJoinTask is Serializable
+        private final int start; // First block
+        private final int end; // One past last block
+        private final IntConsumer action; // Work per block
+
+        BlockTask(int start, int end, IntConsumer action) { // Constructor
+            this.start = start;
+            this.end = end;
+            this.action = action;
+        } // Summary: Creates task for blocks [start, end).
+
+        @Override
+        protected void compute() { // Runs or splits
+            if (end - start == 1) { // Single block
+                action.accept(start);
+                return;
+            }
+            if (end - start > 1) { // Splits range
+                int mid = start + (end - start) / 2;
+                invokeAll(new BlockTask(start, mid, action), new BlockTask(mid, end, action));
+            }
+        } // Summary: Recursively halves the block range.
+    } // Summary: Parallel per-block task.
+
+    // Main function with test cases
+    public static void main(String[] args) { // Entry point for testing
+        java.util.Random random = new java.util.Random(16); // Fixed seed
+        String alphabet = "eeeeeeettttaaaoooiinnsshhrdlu  \n"; // Skewed letter mix
+        StringBuilder text = new StringBuilder(); // 8M chars
+        for (int i = 0; i < 1 << 23; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        String input = text.toString();
+        ForkJoinPool pool = ForkJoinPool.commonPool(); // Shared workers
+
+        // Test Case 1: Parallel round trip
+        System.out.println("Test Case 1: Parallel Round Trip");
+        System.out.println("-----------------------------");
+        long begin = System.nanoTime(); // Times compression
+        byte[] container = compress(input, pool);
+        long compressMs = (System.nanoTime() - begin) / 1_000_000;
+        begin = System.nanoTime(); // Times decompression
+        String restored = decompress(container, pool);
+        long decompressMs = (System.nanoTime() - begin) / 1_000_000;
+        System.out.println("Blocks: " + blockCount(container) + ", container: " + container.length + " bytes");
+        System.out.println("Compress: " + compressMs + " ms, decompress: " + decompressMs + " ms on "
+                + pool.getParallelism() + " worker(s)");
+        System.out.println("Round trip: " + restored.equals(input)); // Expected: true
+        System.out.println();
+
+        // Test Case 2: Random access
+        System.out.println("Test Case 2: Random Access");
+        System.out.println("-----------------------------");
+        int block = 77; // Arbitrary block
+        String slice = decompressBlock(container, block); // Decodes one block only
+        System.out.println("Block " + block + " matches: "
+                + slice.equals(input.substring(block * DEFAULT_BLOCK_SIZE, (block + 1) * DEFAULT_BLOCK_SIZE))); // Expected: true
+        Reader reader = open(container); // Parses header and index once
+        boolean same = true; // Every block via one reader
+        for (int b = 0; b < reader.blockCount(); b += 17) {
+            same &= reader.decompressBlock(b).equals(input.substring(b * DEFAULT_BLOCK_SIZE, (b + 1) * DEFAULT_BLOCK_SIZE));
+        }
+        System.out.println("Reader blocks match: " + same); // Expected: true
+        String last = reader.decompressBlock(reader.blockCount() - 1); // Possibly short last block
+        System.out.println("Last block length: " + last.length()); // Expected: 65536
+        System.out.println();
+
+        // Test Case 3: Small input with a partial block
+        System.out.println("Test Case 3: Partial Block");
+        System.out.println("-----------------------------");
+        byte[] small = compress("mississippi river", 4, pool); // 5 blocks, last one has 1 char
+        System.out.println("Blocks: " + blockCount(small) + ", round trip: " + decompress(small, pool)); // Expected: 5, mississippi river
+        System.out.println();
+
+        // Test Case 4: Truncated and corrupt containers
+        System.out.println("Test Case 4: Corrupt Containers");
+        System.out.println("-----------------------------");
+        try {
+            open(Arrays.copyOf(small, small.length - 1)); // Last payload loses a byte
+            System.out.println("Truncated: accepted");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Truncated: " + e.getMessage()); // Expected: Block 4 lies outside the container
+        }
+        try {
+            open(Arrays.copyOf(small, 10)); // Cut inside the code-length header
+            System.out.println("Header cut: accepted");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Header cut: " + e.getMessage()); // Expected: Truncated container: header length ...
+        }
+        byte[] shortBlock = small.clone(); // Claims more chars than the payloads hold
+        int totalAt = 8 + ByteBuffer.wrap(small).getInt(4) + 4; // Position of total chars
+        ByteBuffer.wrap(shortBlock).putInt(totalAt, 18).putInt(totalAt + 4, 5); // 18 chars, still 5 blocks
+        try {
+            open(shortBlock).decompressBlock(4);
+            System.out.println("Wrong length: accepted");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Wrong length: " + e.getMessage()); // Expected: Block 4 decoded to 1 chars, expected 2
+        }
+        byte[] huge = Arrays.copyOf(small, small.length); // One block claiming Integer.MAX_VALUE chars
+        ByteBuffer.wrap(huge).putInt(totalAt - 4, Integer.MAX_VALUE).putInt(totalAt, Integer.MAX_VALUE).putInt(totalAt + 4, 1);
+        try {
+            open(huge).decompress(pool); // Must fail before allocating the output
+            System.out.println("Huge total: accepted");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Huge total: " + e.getMessage()); // Expected: Block 0 claims more chars than its payload can hold
+        }
+    } // Summary: Tests parallel round trip, random block access and partial blocks.
+}
@@ -0,0 +1,291 @@
+package Concept; // Organizes class in package
+
+import java.util.concurrent.ThreadLocalRandom; // Per-thread random numbers for the benchmark
+import java.util.concurrent.atomic.AtomicBoolean; // Stop flag for the benchmark
+import java.util.concurrent.atomic.LongAdder; // Contention-free counter for the benchmark
+import java.util.concurrent.locks.StampedLock; // Optimistic reads plus exclusive writes
+
+public class ConcurrentSegmentTree { // Segment tree for many lock-free readers and one writer at a time
+
+    private static final int OPTIMISTIC_ATTEMPTS = 3; // Optimistic tries before a reader falls back to a read lock
+
+    // Flat layout: leaves at [n, 2n), node p has children 2p and 2p+1
+    private final long[] sum; // Segment sums
+    private final int[] min; // Segment minimums
+    private final int[] max; // Segment maximums
+    private final int n; // Number of elements
+    private final StampedLock lock = new StampedLock(); // Acts as a sequence lock around writes
+
+    // Constructor
+    public ConcurrentSegmentTree(int[] arr) { // Builds tree from array
+        n = arr == null ? 0 : arr.length; // Stores element count
+        sum = new long[2 * n]; // One slot per node
+        min = new int[2 * n]; // Minimum per node
+        max = new int[2 * n]; // Maximum per node
+        for (int i = 0; i < n; i++) { // Copies leaves
+            sum[n + i] = arr[i];
+            min[n + i] = arr[i];
+            max[n + i] = arr[i];
+        }
+        for (int p = n - 1; p >= 1; p--) { // Builds parents bottom-up
+            pull(p);
+        }
+    } // Summary: Creates tree in O(n) time; the final fields publish it safely to other threads.
+
+    // Private method to recompute a node from its children
+    private void pull(int p) { // Aggregates node p
+        sum[p] = sum[2 * p] + sum[2 * p + 1]; // Combines sums
+        min[p] = Math.min(min[2 * p], min[2 * p + 1]); // Combines mins
+        max[p] = Math.max(max[2 * p], max[2 * p + 1]); // Combines maxes
+    } // Summary: Sets node aggregates from its two children.
+
+    // Private method to validate a query range
+    private boolean invalid(int left, int right) { // Checks bounds
+        return n == 0 || left < 0 || right >= n || left > right; // Invalid query
+    } // Summary: Returns true if [left, right] is empty or out of bounds.
+
+    // Public method for point update
+    public void update(int index, int value) { // Sets element at index
+        if (index < 0 || index >= n) { // Invalid index
+            return; // No update
+        }
+        long stamp = lock.writeLock(); // Serializes writers and invalidates optimistic readers
+        try {
+            int p = index + n; // Leaf index
+            sum[p] = value; // Updates sum
+            min[p] = value; // Updates min
+            max[p] = value; // Updates max
+            for (p >>= 1; p >= 1; p >>= 1) { // Refreshes ancestors
+                pull(p);
+            }
+        } finally {
+            lock.unlockWrite(stamp); // Publishes the new state
+        }
+    } // Summary: Exclusive O(log n) update; readers that overlap it retry.
+
+    // Public method for range update
+    public void rangeUpdate(int left, int right, int value) { // Adds value to elements in [left, right]
+        if (invalid(left, right)) { // Invalid range
+            return; // No update
+        }
+        long stamp = lock.writeLock(); // Whole range changes under one write, so readers never see part of it
+        try {
+            for (int p = left + n; p <= right + n; p++) { // Updates leaves; no lazy tags, so reads stay read-only
+                sum[p] += value;
+                min[p] += value;
+                max[p] += value;
+            }
+            for (int l = (left + n) >> 1, r = (right + n) >> 1; r >= 1; l >>= 1, r >>= 1) { // Climbs level by level
+                for (int p = r; p >= Math.max(l, 1); p--) { // Children have larger indices, so pull high to low
+                    pull(p);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp); // Publishes the new state
+        }
+    } // Summary: Exclusive O(k + log n) range add for k elements; readers that overlap it retry.
+
+    // Public method for range sum query
+    public long rangeSum(int left, int right) { // Queries sum in [left, right]
+        if (invalid(left, right)) { // Invalid query
+            return 0; // Returns 0
+        }
+        for (int attempt = 0; attempt < OPTIMISTIC_ATTEMPTS; attempt++) { // Lock-free path
+            long stamp = lock.tryOptimisticRead(); // Reads sequence, 0 if a write is in progress
+            if (stamp == 0) { // Writer active
+                continue; // Tries again
+            }
+            long result = sumOf(left, right); // Reads without locking
+            if (lock.validate(stamp)) { // No write overlapped the read
+                return result;
+            }
+        }
+        long stamp = lock.readLock(); // Falls back to a shared lock under heavy writing
+        try {
+            return sumOf(left, right);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    } // Summary: Optimistic seqlock-style read with bounded retries (O(log n) time).
+
+    // Public method for range minimum query
+    public int rangeMin(int left, int right) { // Queries minimum in [left, right]
+        if (invalid(left, right)) { // Invalid query
+            return Integer.MAX_VALUE; // Returns max int
+        }
+        for (int attempt = 0; attempt < OPTIMISTIC_ATTEMPTS; attempt++) { // Lock-free path
+            long stamp = lock.tryOptimisticRead(); // Reads sequence
+            if (stamp == 0) { // Writer active
+                continue;
+            }
+            int result = minOf(left, right); // Reads without locking
+            if (lock.validate(stamp)) { // Consistent snapshot
+                return result;
+            }
+        }
+        long stamp = lock.readLock(); // Shared lock fallback
+        try {
+            return minOf(left, right);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    } // Summary: Optimistic range minimum with bounded retries (O(log n) time).
+
+    // Public method for range maximum query
+    public int rangeMax(int left, int right) { // Queries maximum in [left, right]
+        if (invalid(left, right)) { // Invalid query
+            return Integer.MIN_VALUE; // Returns min int
+        }
+        for (int attempt = 0; attempt < OPTIMISTIC_ATTEMPTS; attempt++) { // Lock-free path
+            long stamp = lock.tryOptimisticRead(); // Reads sequence
+            if (stamp == 0) { // Writer active
+                continue;
+            }
+            int result = maxOf(left, right); // Reads without locking
+            if (lock.validate(stamp)) { // Consistent snapshot
+                return result;
+            }
+        }
+        long stamp = lock.readLock(); // Shared lock fallback
+        try {
+            return maxOf(left, right);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    } // Summary: Optimistic range maximum with bounded retries (O(log n) time).
+
+    // Private bottom-up sum; only touches in-bounds slots, so a torn read is harmless before validation
+    private long sumOf(int left, int right) { // Sums [left, right]
+        long result = 0; // Accumulated sum
+        for (int l = left + n, r = right + n + 1; l < r; l >>= 1, r >>= 1) { // Climbs both boundaries
+            if ((l & 1) == 1) {
+                result += sum[l++];
+            }
+            if ((r & 1) == 1) {
+                result += sum[--r];
+            }
+        }
+        return result; // Returns sum
+    } // Summary: Iterative range sum without synchronization.
+
+    // Private bottom-up minimum
+    private int minOf(int left, int right) { // Minimum of [left, right]
+        int result = Integer.MAX_VALUE; // Accumulated min
+        for (int l = left + n, r = right + n + 1; l < r; l >>= 1, r >>= 1) { // Climbs both boundaries
+            if ((l & 1) == 1) {
+                result = Math.min(result, min[l++]);
+            }
+            if ((r & 1) == 1) {
+                result = Math.min(result, min[--r]);
+            }
+        }
+        return result; // Returns min
+    } // Summary: Iterative range minimum without synchronization.
+
+    // Private bottom-up maximum
+    private int maxOf(int left, int right) { // Maximum of [left, right]
+        int result = Integer.MIN_VALUE; // Accumulated max
+        for (int l = left + n, r = right + n + 1; l < r; l >>= 1, r >>= 1) { // Climbs both boundaries
+            if ((l & 1) == 1) {
+                result = Math.max(result, max[l++]);
+            }
+            if ((r & 1) == 1) {
+                result = Math.max(result, max[--r]);
+            }
+        }
+        return result; // Returns max
+    } // Summary: Iterative range maximum without synchronization.
+
+    // Private benchmark: readers issue random range sums while one writer updates continuously
+    private static void benchmark(int readers, int size, long millis) throws InterruptedException { // Prints throughput
+        ConcurrentSegmentTree tree = new ConcurrentSegmentTree(new int[size]); // All zeros
+        AtomicBoolean running = new AtomicBoolean(true); // Stop flag
+        LongAdder reads = new LongAdder(); // Completed queries
+        LongAdder writes = new LongAdder(); // Completed updates
+        Thread[] threads = new Thread[readers + 1]; // Readers plus one writer
+        for (int t = 0; t < readers; t++) { // Starts readers
+            threads[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long done = 0;
+                long sink = 0; // Keeps results alive
+                while (running.get()) {
+                    int a = random.nextInt(size), b = random.nextInt(size);
+                    sink += tree.rangeSum(Math.min(a, b), Math.max(a, b));
+                    done++;
+                }
+                reads.add(done + (sink == Long.MIN_VALUE ? 1 : 0));
+            });
+        }
+        threads[readers] = new Thread(() -> { // Single writer
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long done = 0;
+            while (running.get()) {
+                tree.update(random.nextInt(size), random.nextInt(100));
+                done++;
+            }
+            writes.add(done);
+        });
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        Thread.sleep(millis); // Measurement window
+        running.set(false); // Stops everyone
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = millis / 1000.0; // Window length
+        System.out.printf("%2d readers: %,12.0f queries/s total, %,12.0f queries/s per reader, %,10.0f updates/s%n",
+                readers, reads.sum() / seconds, reads.sum() / seconds / readers, writes.sum() / seconds);
+    } // Summary: Measures read and write throughput under contention.
+
+    // Main function with test cases
+    public static void main(String[] args) throws InterruptedException { // Entry point for testing; pass --bench for timings
+        if (java.util.Arrays.asList(args).contains("--bench")) { // Throughput with 1, 4 and 16 readers plus one writer
+            System.out.println("Throughput (2^20 elements, 1 writer)");
+            for (int readers : new int[]{1, 4, 16}) {
+                benchmark(readers, 1 << 20, 2000);
+            }
+            return;
+        }
+        // Test Case 1: Basic queries
+        System.out.println("Test Case 1: Basic Queries");
+        System.out.println("-----------------------------------------");
+        ConcurrentSegmentTree cst = new ConcurrentSegmentTree(new int[]{5, 1, 4, 2, 3}); // Creates tree
+        System.out.println("Sum [0,4]: " + cst.rangeSum(0, 4)); // Expected: 15
+        System.out.println("Min [1,3]: " + cst.rangeMin(1, 3)); // Expected: 1
+        cst.update(1, 9); // [5,9,4,2,3]
+        System.out.println("Max [0,2] after [1]=9: " + cst.rangeMax(0, 2)); // Expected: 9
+        cst.rangeUpdate(2, 4, -3); // [5,9,1,-1,0]
+        System.out.println("Sum [0,4] after [2,4]-=3: " + cst.rangeSum(0, 4)); // Expected: 14
+        System.out.println("Min [0,4] after [2,4]-=3: " + cst.rangeMin(0, 4)); // Expected: -1
+        System.out.println();
+
+        // Test Case 2: Readers never see a half-applied range update
+        System.out.println("Test Case 2: Consistency Under Writes");
+        System.out.println("-----------------------------------------");
+        int size = 1 << 12; // Elements
+        ConcurrentSegmentTree pairs = new ConcurrentSegmentTree(new int[size]); // All zeros
+        AtomicBoolean running = new AtomicBoolean(true); // Stop flag
+        AtomicBoolean broken = new AtomicBoolean(false); // Set if a reader sees a torn state
+        Thread writer = new Thread(() -> { // Adds 1 to every element per call, so all elements stay equal between calls
+            while (running.get()) {
+                pairs.rangeUpdate(0, size - 1, 1);
+            }
+        });
+        Thread reader = new Thread(() -> { // [1, size-2] spans ~2 log n nodes, so a torn read mixes two values
+            while (running.get()) {
+                long total = pairs.rangeSum(1, size - 2);
+                if (total % (size - 2) != 0) { // Equal elements always sum to a multiple of the count
+                    broken.set(true);
+                }
+            }
+        });
+        writer.start();
+        reader.start();
+        Thread.sleep(500); // Runs for half a second
+        running.set(false);
+        writer.join();
+        reader.join();
+        System.out.println("Torn reads observed: " + broken.get()); // Expected: false
+    } // Summary: Tests queries and consistency under concurrent writes; --bench measures reader scaling.
+}
@@ -0,0 +1,149 @@
+package Concept; // Organizes class in package
+
+import java.util.Arrays; // For growing arena arrays
+
+public class DynamicSegmentTree { // Sparse segment tree over a huge long index space, nodes created on touch
+
+    // Arena: node i is (sum[i], lazy[i], left[i], right[i]); node 0 is the root, child index 0 means "absent"
+    private long[] sum; // Segment sums, including this node's own lazy additions
+    private long[] lazy; // Addition applied to the whole segment and not stored in the children
+    private int[] left; // Left child index, 0 if never touched
+    private int[] right; // Right child index, 0 if never touched
+    private int count; // Nodes in use
+    private final long size; // Index space is [0, size)
+
+    // Constructor
+    public DynamicSegmentTree(long size) { // Creates an all-zero tree over [0, size)
+        if (size <= 0) { // Empty index space
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        this.size = size; // Stores index space
+        sum = new long[64]; // Small initial arena
+        lazy = new long[64];
+        left = new int[64];
+        right = new int[64];
+        count = 1; // Root only
+    } // Summary: Creates an empty tree; memory grows with touched positions, not with size.
+
+    // Returns number of allocated nodes
+    public int nodeCount() { // Arena usage
+        return count;
+    } // Summary: Returns nodes currently allocated.
+
+    // Private method to allocate a node
+    private int newNode() { // Appends a zeroed node to the arena
+        if (count == sum.length) { // Arena full
+            int capacity = sum.length * 2; // Doubles arena
+            sum = Arrays.copyOf(sum, capacity);
+            lazy = Arrays.copyOf(lazy, capacity);
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+        }
+        return count++; // Slots beyond count are still zero
+    } // Summary: Returns a fresh node index (amortized O(1)).
+
+    // Private method to validate a range
+    private boolean invalid(long l, long r) { // Checks bounds
+        return l < 0 || r >= size || l > r; // Invalid range
+    } // Summary: Returns true if [l, r] is empty or out of bounds.
+
+    // Public method for range sum query
+    public long rangeSum(long l, long r) { // Queries sum in [l, r]
+        if (invalid(l, r)) { // Invalid query
+            return 0; // Returns 0
+        }
+        return rangeSum(0, 0, size - 1, l, r); // Starts at root
+    } // Summary: Range sum without allocating nodes (O(log size) time).
+
+    // Private recursive range sum
+    private long rangeSum(int node, long start, long end, long l, long r) { // Sums [l, r] within [start, end]
+        if (l <= start && end <= r) { // Full overlap
+            return sum[node]; // Exact segment sum
+        }
+        long overlap = Math.min(end, r) - Math.max(start, l) + 1; // Elements of [l, r] inside this segment
+        long result = lazy[node] * overlap; // Additions recorded here apply to the overlap
+        long mid = start + (end - start) / 2; // Splits segment
+        if (l <= mid && left[node] != 0) { // Touched left child overlaps
+            result += rangeSum(left[node], start, mid, l, r);
+        }
+        if (r > mid && right[node] != 0) { // Touched right child overlaps
+            result += rangeSum(right[node], mid + 1, end, l, r);
+        }
+        return result; // Returns sum
+    } // Summary: Untouched children contribute zero, so reads never allocate.
+
+    // Public method for range update
+    public void rangeUpdate(long l, long r, long value) { // Adds value to [l, r]
+        if (invalid(l, r)) { // Invalid range
+            return; // No update
+        }
+        rangeUpdate(0, 0, size - 1, l, r, value); // Starts at root
+    } // Summary: Range addition creating at most O(log size) nodes.
+
+    // Private recursive range update
+    private void rangeUpdate(int node, long start, long end, long l, long r, long value) { // Adds value to [l, r] within [start, end]
+        long overlap = Math.min(end, r) - Math.max(start, l) + 1; // Elements affected in this segment
+        sum[node] += value * overlap; // Segment sum grows by value per affected element
+        if (l <= start && end <= r) { // Full overlap
+            lazy[node] += value; // Recorded here, children stay untouched
+            return;
+        }
+        long mid = start + (end - start) / 2; // Splits segment
+        if (l <= mid) { // Left child affected
+            if (left[node] == 0) {
+                int child = newNode(); // Creates on touch (may grow arrays)
+                left[node] = child;
+            }
+            rangeUpdate(left[node], start, mid, l, r, value);
+        }
+        if (r > mid) { // Right child affected
+            if (right[node] == 0) {
+                int child = newNode(); // Creates on touch (may grow arrays)
+                right[node] = child;
+            }
+            rangeUpdate(right[node], mid + 1, end, l, r, value);
+        }
+    } // Summary: Non-propagating lazy update; tags stay on covering nodes and are added back during queries.
+
+    // Public method for point update
+    public void update(long index, long value) { // Sets element at index to value
+        if (invalid(index, index)) { // Invalid index
+            return; // No update
+        }
+        long current = rangeSum(index, index); // Current value
+        rangeUpdate(index, index, value - current); // Adds the difference
+    } // Summary: Sets a value via one read and one single-element addition (O(log size) time).
+
+    // Main function with test cases
+    public static void main(String[] args) { // Entry point for testing
+        // Test Case 1: Huge index space
+        System.out.println("Test Case 1: 2^40 Index Space");
+        System.out.println("-----------------------------------------");
+        long space = 1L << 40; // Timestamp-sized key space
+        DynamicSegmentTree dst = new DynamicSegmentTree(space); // Empty tree
+        dst.update(5, 10); // Single point near the start
+        dst.update(space - 1, 7); // Single point at the end
+        dst.rangeUpdate(1_000_000_000L, 1_000_000_999L, 2); // 1000 positions get +2
+        System.out.println("Sum [0, 2^40-1]: " + dst.rangeSum(0, space - 1)); // Expected: 10+7+2000=2017
+        System.out.println("Sum [0, 5]: " + dst.rangeSum(0, 5)); // Expected: 10
+        System.out.println("Sum [1000000500, 2^40-1]: " + dst.rangeSum(1_000_000_500L, space - 1)); // Expected: 1000+7=1007
+        dst.update(1_000_000_000L, 100); // Overwrites one position inside the added range
+        System.out.println("Sum [1000000000, 1000000001]: " + dst.rangeSum(1_000_000_000L, 1_000_000_001L)); // Expected: 102
+        System.out.println("Nodes allocated: " + dst.nodeCount());
+        System.out.println();
+
+        // Test Case 2: Millions of sparse positions
+        System.out.println("Test Case 2: Sparse Points");
+        System.out.println("-----------------------------------------");
+        DynamicSegmentTree sparse = new DynamicSegmentTree(space); // Empty tree
+        java.util.Random random = new java.util.Random(10); // Fixed seed
+        long expected = 0; // Reference total
+        for (int i = 0; i < 200_000; i++) { // 200k scattered additions
+            long position = (random.nextLong() >>> 1) % space;
+            sparse.rangeUpdate(position, position, 1);
+            expected++;
+        }
+        System.out.println("Total: " + sparse.rangeSum(0, space - 1) + " (expected " + expected + ")"); // Expected: equal
+        System.out.println("Nodes allocated: " + sparse.nodeCount());
+    } // Summary: Tests sparse updates and queries over a 2^40 key space.
+}
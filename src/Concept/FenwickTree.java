@@ -0,0 +1,156 @@
+package Concept; // Organizes class in package
+
+public class FenwickTree { // Binary indexed tree for prefix-sum workloads
+
+    private final long[] tree; // 1-based Fenwick array: tree[i] sums (i - lowbit(i), i]
+    private final long[] slope; // Second tree for range-add mode, null in point mode
+    private final int n; // Number of elements
+
+    // Constructor for point-update mode
+    public FenwickTree(int[] arr) { // Builds tree for point updates and range sums
+        this(arr, false); // Point mode
+    } // Summary: Creates a Fenwick tree with one array of n + 1 longs.
+
+    // Constructor choosing the mode
+    public FenwickTree(int[] arr, boolean rangeUpdates) { // Builds tree, optionally supporting range additions
+        n = arr == null ? 0 : arr.length; // Stores element count
+        tree = new long[n + 1]; // Index 0 unused
+        slope = rangeUpdates ? new long[n + 1] : null; // Extra tree only when needed
+        for (int i = 1; i <= n; i++) { // Linear build: push each partial sum to its parent once
+            tree[i] += arr[i - 1]; // Adds own element
+            int parent = i + (i & -i); // Next node covering i
+            if (parent <= n) {
+                tree[parent] += tree[i]; // Passes partial sum upward
+            }
+        }
+    } // Summary: Builds in O(n) time; range-add mode keeps a second tree of coefficients.
+
+    // Checks if tree is empty
+    public boolean isEmpty() { // Verifies if tree has no elements
+        return n == 0;
+    } // Summary: Returns true if tree is empty, false otherwise.
+
+    // Private method adding delta at 1-based position i of one tree
+    private static void add(long[] bit, int n, int i, long delta) { // Climbs to every node covering i
+        for (; i <= n; i += i & -i) {
+            bit[i] += delta;
+        }
+    } // Summary: Point addition in O(log n) time.
+
+    // Private method for prefix sum of one tree over [1, i]
+    private static long prefix(long[] bit, int i) { // Walks down by clearing low bits
+        long result = 0; // Accumulated sum
+        for (; i > 0; i -= i & -i) {
+            result += bit[i];
+        }
+        return result; // Returns sum
+    } // Summary: Prefix sum in O(log n) time.
+
+    // Private method for the sum of elements [0, count)
+    private long prefixSum(int count) { // Sums first count elements
+        if (slope == null) { // Point mode
+            return prefix(tree, count);
+        }
+        // Range-add mode: sum = count * slope(count) + offset(count), where tree holds offsets
+        return prefix(tree, count) + (long) count * prefix(slope, count);
+    } // Summary: Prefix sum honoring pending range additions.
+
+    // Public method for range sum query; returns long like SegmentTree.rangeSumLong, not the int rangeSum
+    public long rangeSum(int left, int right) { // Queries sum in [left, right]
+        if (n == 0 || left < 0 || right >= n || left > right) { // Invalid query
+            return 0; // Returns 0
+        }
+        return prefixSum(right + 1) - prefixSum(left); // Difference of prefixes
+    } // Summary: Range sum as two prefix walks (O(log n) time).
+
+    // Public method for point update
+    public void update(int index, int value) { // Sets element at index to value
+        if (index < 0 || index >= n) { // Invalid index
+            return; // No update
+        }
+        long current = rangeSum(index, index); // Current value, so no copy of the array is kept
+        add(index, value - current); // Applies the difference
+    } // Summary: Sets a value via one read and one point addition (O(log n) time).
+
+    // Public method for point addition
+    public void add(int index, long delta) { // Adds delta to element at index
+        if (index < 0 || index >= n) { // Invalid index
+            return; // No update
+        }
+        if (slope == null) { // Point mode
+            add(tree, n, index + 1, delta);
+        } else { // Range-add mode: a point is a range of length one
+            rangeUpdate(index, index, delta);
+        }
+    } // Summary: Point addition in O(log n) time.
+
+    // Public method for range update
+    public void rangeUpdate(int left, int right, long value) { // Adds value to [left, right]
+        if (n == 0 || left < 0 || right >= n || left > right) { // Invalid range
+            return; // No update
+        }
+        if (slope == null) { // Point mode has no slope tree, so falls back to one addition per element
+            for (int i = left + 1; i <= right + 1; i++) {
+                add(tree, n, i, value);
+            }
+            return;
+        }
+        int l = left + 1, r = right + 1; // 1-based bounds
+        add(slope, n, l, value); // Slope starts at l
+        add(slope, n, r + 1, -value); // Slope ends after r
+        add(tree, n, l, -value * (l - 1)); // Cancels slope before l
+        add(tree, n, r + 1, value * r); // Keeps the full contribution after r
+    } // Summary: Dual-BIT range addition in O(log n) time; O(k log n) for k elements in point mode.
+
+    // Main function with test cases
+    public static void main(String[] args) { // Entry point for testing
+        // Test Case 1: Point mode
+        System.out.println("Test Case 1: Point Updates");
+        System.out.println("-----------------------------------------");
+        FenwickTree ft1 = new FenwickTree(new int[]{2, 4, 6, 8}); // Creates tree
+        System.out.println("Sum [0,3]: " + ft1.rangeSum(0, 3)); // Expected: 20
+        ft1.update(2, 10); // [2,4,10,8]
+        System.out.println("Sum [0,3] after [2]=10: " + ft1.rangeSum(0, 3)); // Expected: 24
+        System.out.println("Sum [1,2]: " + ft1.rangeSum(1, 2)); // Expected: 14
+        ft1.rangeUpdate(0, 2, 1); // Point-mode fallback: [3,5,11,8]
+        System.out.println("Sum [0,3] after [0,2]+=1: " + ft1.rangeSum(0, 3)); // Expected: 27
+        System.out.println();
+
+        // Test Case 2: Range-add mode
+        System.out.println("Test Case 2: Range Updates");
+        System.out.println("-----------------------------------------");
+        FenwickTree ft2 = new FenwickTree(new int[]{1, 2, 3, 4, 5}, true); // Creates dual tree
+        ft2.rangeUpdate(1, 3, 5); // [1,7,8,9,5]
+        System.out.println("Sum [1,3]: " + ft2.rangeSum(1, 3)); // Expected: 24
+        System.out.println("Sum [0,4]: " + ft2.rangeSum(0, 4)); // Expected: 30
+        ft2.update(4, 0); // [1,7,8,9,0]
+        System.out.println("Sum [3,4] after [4]=0: " + ft2.rangeSum(3, 4)); // Expected: 9
+        System.out.println();
+
+        // Test Case 3: Randomized check against a plain array
+        System.out.println("Test Case 3: Randomized Check");
+        System.out.println("-----------------------------------------");
+        java.util.Random random = new java.util.Random(6); // Fixed seed
+        long[] reference = new long[500]; // Reference values
+        FenwickTree ft3 = new FenwickTree(new int[reference.length], true); // All zeros
+        boolean ok = true; // Tracks mismatches
+        for (int step = 0; step < 5000; step++) {
+            int a = random.nextInt(reference.length), b = random.nextInt(reference.length);
+            int left = Math.min(a, b), right = Math.max(a, b);
+            if (random.nextBoolean()) { // Range add
+                int val = random.nextInt(21) - 10;
+                for (int i = left; i <= right; i++) {
+                    reference[i] += val;
+                }
+                ft3.rangeUpdate(left, right, val);
+            } else { // Query
+                long s = 0;
+                for (int i = left; i <= right; i++) {
+                    s += reference[i];
+                }
+                ok &= ft3.rangeSum(left, right) == s;
+            }
+        }
+        System.out.println("All queries match: " + ok); // Expected: true
+    } // Summary: Tests point mode, range-add mode, and random operations.
+}
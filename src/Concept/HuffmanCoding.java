@@ -1,17 +1,27 @@
  package Concept; // Organizes class in package
 
-import java.util.ArrayList; // For heap implementation
-import java.util.HashMap; // For frequency and encoder maps
-import java.util.Map; // For entry set
+import java.util.Arrays; // For trimming decoded output
+import java.util.HashMap; // For encoder map
 import java.util.Scanner; // For interactive input
+import java.util.concurrent.ForkJoinPool; // Parallel counting
+import java.util.concurrent.RecursiveTask; // Parallel counting task
 
 public class HuffmanCoding { // Declares class for Huffman Coding
 
     private HashMap<Character, String> encoder; // Maps character to Huffman code
+    private long[] codeBits; // Canonical code of each character as plain bits, indexed by char
+    private byte[] codeLengths; // Code length in bits per char, 0 if the char is not in the tree
+    private static final int TABLE_BITS = 10; // Bits resolved per decode-table probe
+    private char[] tableSymbol; // Decoded char for each TABLE_BITS-bit prefix
+    private byte[] tableLength; // Code length for each prefix, 0 if the code is longer than TABLE_BITS
+    private Node[] tableNode; // Tree node reached after TABLE_BITS bits, for codes longer than the table
+    private int minCodeLength; // Shortest code, bounds the decoded length
+    static final int MAX_CODE_LENGTH = 57; // Longest code the 64-bit bit accumulators can hold
+    private int maxCodeLength = MAX_CODE_LENGTH; // Length limit for this coder's codes
     private Node root; // Root of Huffman tree
 
     // Private inner class for Huffman tree nodes
-    private class Node implements Comparable<Node> { // Node with comparison for heap
+    private class Node { // Node of the canonical code tree
         Character data; // Character (null for internal nodes)
         int cost; // Frequency or sum of child frequencies
         Node left; // Left child
@@ -30,76 +40,8 @@ public class HuffmanCoding { // Declares class for Huffman Coding
             this.left = left; // Left child
             this.right = right; // Right child
         } // Summary: Creates internal node with frequency and children.
-
-        @Override
-        public int compareTo(Node other) { // Compares by frequency
-            return this.cost - other.cost; // Lower cost first
-        } // Summary: Orders nodes for min-heap.
     } // Summary: Defines Huffman tree node structure.
 
-    // Private class for min-heap
-    private class MinHeap { // Implements min-heap for nodes
-        private ArrayList<Node> heap; // Stores nodes
-
-        public MinHeap() { // Constructor
-            heap = new ArrayList<>(); // Initializes empty heap
-        } // Summary: Creates empty min-heap.
-
-        public void insert(Node node) { // Adds node to heap
-            heap.add(node); // Appends node
-            int idx = heap.size() - 1; // Gets index
-            while (idx > 0) { // Bubbles up
-                int parent = (idx - 1) / 2; // Parent index
-                if (heap.get(parent).compareTo(heap.get(idx)) > 0) { // Parent > child
-                    swap(idx, parent); // Swaps nodes
-                    idx = parent; // Moves up
-                } else {
-                    break; // Heap property satisfied
-                }
-            }
-        } // Summary: Inserts node, maintains min-heap (O(log n)).
-
-        public Node remove() { // Removes min node
-            if (heap.isEmpty()) { // Empty heap
-                return null; // Returns null
-            }
-            Node min = heap.get(0); // Gets root
-            if (heap.size() == 1) { // Single node
-                heap.remove(0); // Removes it
-                return min; // Returns min
-            }
-            heap.set(0, heap.remove(heap.size() - 1)); // Moves last to root
-            int idx = 0; // Starts at root
-            while (true) { // Bubbles down
-                int left = 2 * idx + 1; // Left child index
-                int right = 2 * idx + 2; // Right child index
-                int smallest = idx; // Assumes root smallest
-                if (left < heap.size() && heap.get(left).compareTo(heap.get(smallest)) < 0) {
-                    smallest = left; // Updates if left smaller
-                }
-                if (right < heap.size() && heap.get(right).compareTo(heap.get(smallest)) < 0) {
-                    smallest = right; // Updates if right smaller
-                }
-                if (smallest == idx) { // Heap property satisfied
-                    break; // Exits
-                }
-                swap(idx, smallest); // Swaps with smallest
-                idx = smallest; // Moves down
-            }
-            return min; // Returns min node
-        } // Summary: Removes min node, maintains heap (O(log n)).
-
-        public int size() { // Returns heap size
-            return heap.size(); // Number of nodes
-        } // Summary: Returns current node count.
-
-        private void swap(int i, int j) { // Swaps nodes
-            Node temp = heap.get(i); // Stores temp
-            heap.set(i, heap.get(j)); // Sets i to j
-            heap.set(j, temp); // Sets j to temp
-        } // Summary: Swaps heap elements.
-    } // Summary: Min-heap for building Huffman tree.
-
     // Constructor to build Huffman tree
     public HuffmanCoding(String input) throws Exception { // Initializes coding
         if (input == null || input.isEmpty()) { // Validates input
@@ -108,37 +50,441 @@ public class HuffmanCoding { // Declares class for Huffman Coding
         buildHuffmanTree(input); // Builds tree and encoder
     } // Summary: Sets up Huffman coding for input.
 
+    // Constructor with a limit on code length
+    public HuffmanCoding(String input, int maxCodeLength) throws Exception { // Initializes length-limited coding
+        if (input == null || input.isEmpty()) { // Validates input
+            throw new Exception("Input string cannot be null or empty"); // Throws error
+        }
+        this.maxCodeLength = checkMaxCodeLength(maxCodeLength); // Validates limit
+        buildHuffmanTree(input); // Builds tree and encoder
+    } // Summary: Sets up coding whose codes never exceed maxCodeLength bits; at most 10 means one table probe per char.
+
     // Private method to build Huffman tree and encoder
     private void buildHuffmanTree(String input) { // Constructs tree
-        // Build frequency map
-        HashMap<Character, Integer> freqMap = new HashMap<>(); // Char to frequency
-        for (int i = 0; i < input.length(); i++) { // Scans string
-            char c = input.charAt(i); // Current char
-            freqMap.put(c, freqMap.getOrDefault(c, 0) + 1); // Increments count
-        } // Creates frequency map
-
-        // Build min-heap
-        MinHeap minHeap = new MinHeap(); // Initializes heap
-        for (Map.Entry<Character, Integer> entry : freqMap.entrySet()) { // Iterates map
-            Node node = new Node(entry.getKey(), entry.getValue()); // Creates leaf
-            minHeap.insert(node); // Adds to heap
-        } // Populates heap
-
-        // Build Huffman tree
-        while (minHeap.size() > 1) { // Until one node remains
-            Node first = minHeap.remove(); // Lowest frequency
-            Node second = minHeap.remove(); // Next lowest
-            Node merged = new Node(first.cost + second.cost, first, second); // Merges nodes
-            minHeap.insert(merged); // Adds merged node
-        } // Constructs tree
-        root = minHeap.remove(); // Sets root
-
-        // Initialize encoder
+        int[] freq = input.length() >= PARALLEL_COUNT_THRESHOLD // Large inputs are counted on all cores
+                ? countCharsParallel(input, ForkJoinPool.commonPool())
+                : countChars(input);
+        int maxChar = freq.length - 1; // Largest char present
+        while (freq[maxChar] == 0) {
+            maxChar--;
+        }
+        buildFromFrequencies(Arrays.copyOf(freq, maxChar + 1)); // Tree, lengths and canonical codes over used chars only
+    } // Summary: Counts chars into a primitive histogram, then builds canonical codes (O(n + k log k)).
+
+    private static final int PARALLEL_COUNT_THRESHOLD = 1 << 20; // Input size from which counting is split across cores
+
+    // Public method to count chars of a string
+    public static int[] countChars(String input) { // Histogram over the 16-bit char alphabet
+        int[] freq = new int[65536]; // One counter per char value, no boxing or hashing
+        for (int i = 0; i < input.length(); i++) {
+            freq[input.charAt(i)]++; // Increments count
+        }
+        return freq; // Returns histogram
+    } // Summary: Counts every char with one array increment (O(n) time).
+
+    // Public method to count bytes of an array slice
+    public static int[] countBytes(byte[] data, int offset, int length) { // Histogram over the byte alphabet
+        int[] c0 = new int[256], c1 = new int[256], c2 = new int[256], c3 = new int[256]; // Four interleaved counters
+        int i = offset; // Current position
+        int end = offset + length; // End of slice
+        for (; i + 3 < end; i += 4) { // Consecutive equal bytes hit different tables, so increments do not wait on each other
+            c0[data[i] & 0xFF]++;
+            c1[data[i + 1] & 0xFF]++;
+            c2[data[i + 2] & 0xFF]++;
+            c3[data[i + 3] & 0xFF]++;
+        }
+        for (; i < end; i++) { // Leftover bytes
+            c0[data[i] & 0xFF]++;
+        }
+        for (int b = 0; b < 256; b++) { // Merges counters
+            c0[b] += c1[b] + c2[b] + c3[b];
+        }
+        return c0; // Returns histogram
+    } // Summary: Counts bytes with four interleaved tables to break store-to-load dependency chains (O(n) time).
+
+    // Public method to count chars on a fork/join pool
+    public static int[] countCharsParallel(String input, ForkJoinPool pool) { // Splits string across workers
+        return pool.invoke(new CountTask(null, input, 0, input.length())); // Merged histogram
+    } // Summary: Parallel char histogram, merged pairwise.
+
+    // Public method to count bytes on a fork/join pool
+    public static int[] countBytesParallel(byte[] data, int offset, int length, ForkJoinPool pool) { // Splits bytes across workers
+        return pool.invoke(new CountTask(data, null, offset, offset + length)); // Merged histogram
+    } // Summary: Parallel byte histogram, merged pairwise.
+
+    // Fork/join task counting a slice of bytes or chars
+    private static class CountTask extends RecursiveTask<int[]> { // Returns the histogram of its slice
+        private static final long serialVersionUID = 1L; // ForkJoinTask is Serializable
+        private static final int SPLIT = 1 << 18; // Slice size counted by one task
+        private final byte[] bytes; // Byte input, or null
+        private final String text; // Char input, or null
+        private final int start; // Slice start
+        private final int end; // Slice end (exclusive)
+
+        CountTask(byte[] bytes, String text, int start, int end) { // Constructor
+            this.bytes = bytes;
+            this.text = text;
+            this.start = start;
+            this.end = end;
+        } // Summary: Creates task for [start, end).
+
+        @Override
+        protected int[] compute() { // Counts or splits
+            if (end - start <= SPLIT) { // Small slice
+                if (bytes != null) {
+                    return countBytes(bytes, start, end - start);
+                }
+                int[] freq = new int[65536]; // Char histogram
+                for (int i = start; i < end; i++) {
+                    freq[text.charAt(i)]++;
+                }
+                return freq;
+            }
+            int mid = start + (end - start) / 2; // Splits slice
+            CountTask left = new CountTask(bytes, text, start, mid);
+            left.fork(); // Left half on another worker
+            int[] result = new CountTask(bytes, text, mid, end).compute(); // Right half here
+            int[] other = left.join(); // Waits for left half
+            for (int i = 0; i < result.length; i++) { // Merges histograms
+                result[i] += other[i];
+            }
+            return result;
+        } // Summary: Recursively splits large slices and sums child histograms.
+    } // Summary: Parallel histogram task.
+
+    // Private constructor for the factories
+    private HuffmanCoding() { // Tables are filled by the calling factory
+    } // Summary: Creates an empty coder for fromFrequencies/fromHeader.
+
+    // Public factory from a frequency table
+    public static HuffmanCoding fromFrequencies(int[] freq) { // freq[c] = occurrences of char c
+        checkFrequencies(freq); // Validates counts
+        HuffmanCoding coder = new HuffmanCoding(); // Empty coder
+        coder.buildFromFrequencies(freq); // Builds codes
+        return coder; // Returns coder
+    } // Summary: Creates a coder for a known alphabet, e.g. byte values 0-255 of a stream.
+
+    // Public factory from a frequency table with a limit on code length
+    public static HuffmanCoding fromFrequencies(int[] freq, int maxCodeLength) { // freq[c] = occurrences of char c
+        checkFrequencies(freq); // Validates counts
+        HuffmanCoding coder = new HuffmanCoding(); // Empty coder
+        coder.maxCodeLength = checkMaxCodeLength(maxCodeLength); // Limit used by buildFromFrequencies
+        coder.buildFromFrequencies(freq); // Builds codes
+        return coder; // Returns coder
+    } // Summary: Creates a coder for a known alphabet whose codes never exceed maxCodeLength bits.
+
+    // Private method to validate a frequency table
+    private static void checkFrequencies(int[] freq) { // Throws on unusable tables
+        long total = 0; // Sum of frequencies
+        for (int f : freq) {
+            if (f < 0) { // Negative counts make no sense
+                throw new IllegalArgumentException("Frequencies must be non-negative");
+            }
+            total += f;
+        }
+        if (total == 0) { // Nothing to code
+            throw new IllegalArgumentException("At least one frequency must be positive");
+        }
+        if (total > Integer.MAX_VALUE) { // Node costs are ints
+            throw new IllegalArgumentException("Frequencies must sum to at most Integer.MAX_VALUE; scale them down");
+        }
+    } // Summary: Rejects negative, all-zero or overflowing frequency tables.
+
+    // Private method to validate a code length limit
+    private static int checkMaxCodeLength(int maxCodeLength) { // Returns the limit if usable
+        if (maxCodeLength < 1 || maxCodeLength > MAX_CODE_LENGTH) { // Outside what the bit accumulators hold
+            throw new IllegalArgumentException("Maximum code length must be between 1 and " + MAX_CODE_LENGTH);
+        }
+        return maxCodeLength;
+    } // Summary: Validates the limit passed to the length-limited constructors.
+
+    // Private method to build tree and codes from frequencies
+    private void buildFromFrequencies(int[] freq) { // freq indexed by char
+        int[] lengths = huffmanCodeLengths(freq); // Optimal lengths without building a node tree
+        int deepest = 0; // Longest Huffman code
+        for (int length : lengths) {
+            deepest = Math.max(deepest, length);
+        }
+        if (deepest > maxCodeLength) { // Too deep, recompute optimal lengths under the limit
+            lengths = limitedCodeLengths(freq, maxCodeLength);
+        }
+        useCodeLengths(lengths, freq); // Canonical codes, tree, encoder and decoder
+    } // Summary: Derives code lengths (length-limited if needed), then canonical codes and their tree (O(k log k) sort, O(k) rest).
+
+    // Package-private method sorting present symbols by frequency
+    static long[] sortedByFrequency(int[] freq) { // (frequency << 32) | symbol, ascending
+        int n = 0; // Symbols with positive frequency
+        for (int f : freq) {
+            if (f > 0) {
+                n++;
+            }
+        }
+        long[] sorted = new long[n]; // Packed keys sort as primitives, no comparator or boxing
+        int k = 0;
+        for (int c = 0; c < freq.length; c++) {
+            if (freq[c] > 0) {
+                sorted[k++] = ((long) freq[c] << 32) | c;
+            }
+        }
+        Arrays.sort(sorted); // Ascending frequency, ties by symbol
+        return sorted; // Returns packed keys
+    } // Summary: Lists present symbols in ascending frequency (O(k log k)).
+
+    // Package-private method computing Huffman code lengths in place
+    static int[] huffmanCodeLengths(int[] freq) { // Moffat-Katajainen; freq indexed by symbol
+        long[] sorted = sortedByFrequency(freq); // Leaves in ascending order
+        int n = sorted.length;
+        int[] lengths = new int[freq.length]; // Result, 0 for absent symbols
+        if (n == 1) { // A lone symbol still needs one bit
+            lengths[(int) sorted[0]] = 1;
+            return lengths;
+        }
+        long[] a = new long[n]; // Weights, then parent indices, then depths
+        for (int i = 0; i < n; i++) {
+            a[i] = sorted[i] >>> 32;
+        }
+        // Pass 1: two queues in one array. Leaves are a[leaf..n), merged nodes a[root..next) are created in
+        // ascending weight order, so the two smallest are always at one of the two queue fronts.
+        a[0] += a[1]; // First merge
+        int root = 0; // Front of the merged-node queue
+        int leaf = 2; // Front of the leaf queue
+        for (int next = 1; next < n - 1; next++) { // Creates merged node next
+            if (leaf >= n || a[root] < a[leaf]) { // First child is a merged node
+                a[next] = a[root];
+                a[root++] = next; // Merged node now stores its parent index
+            } else { // First child is a leaf
+                a[next] = a[leaf++];
+            }
+            if (leaf >= n || (root < next && a[root] < a[leaf])) { // Second child is a merged node
+                a[next] += a[root];
+                a[root++] = next;
+            } else { // Second child is a leaf
+                a[next] += a[leaf++];
+            }
+        }
+        // Pass 2: parent indices to depths of merged nodes, root at n - 2
+        a[n - 2] = 0;
+        for (int next = n - 3; next >= 0; next--) {
+            a[next] = a[(int) a[next]] + 1;
+        }
+        // Pass 3: leaf depths from the number of merged nodes at each depth
+        int available = 1; // Slots at current depth
+        int used = 0; // Slots taken by merged nodes
+        int depth = 0; // Current depth
+        root = n - 2;
+        int next = n - 1; // Leaves get depths from the most frequent down
+        while (available > 0) {
+            while (root >= 0 && a[root] == depth) { // Merged nodes at this depth
+                used++;
+                root--;
+            }
+            while (available > used) { // Remaining slots are leaves
+                a[next--] = depth;
+                available--;
+            }
+            available = 2 * used; // Children of this depth's merged nodes
+            depth++;
+            used = 0;
+        }
+        for (int i = 0; i < n; i++) { // Back to symbol order
+            lengths[(int) sorted[i]] = (int) a[i];
+        }
+        return lengths; // Returns lengths
+    } // Summary: Huffman code lengths with two implicit queues in one array, linear after sorting (O(k log k) total).
+
+    // Package-private method computing optimal code lengths no longer than maxLength
+    static int[] limitedCodeLengths(int[] freq, int maxLength) { // Package-merge; freq indexed by symbol
+        long[] leaves = sortedByFrequency(freq); // Ascending frequency
+        int n = leaves.length; // Symbols with positive frequency
+        if (n > 1L << Math.min(maxLength, 62)) { // Not even a complete tree of depth maxLength has enough leaves
+            throw new IllegalArgumentException(n + " symbols cannot be coded in " + maxLength + " bits");
+        }
+        int[] lengths = new int[freq.length]; // Result, 0 for absent symbols
+        if (n == 1) { // A lone symbol still needs one bit
+            lengths[(int) leaves[0]] = 1;
+            return lengths;
+        }
+        // Level d (0 = shallowest) is the leaves merged with packages (adjacent pairs) of level d + 1
+        long[][] weight = new long[maxLength][]; // Item weights per level, ascending
+        int[][] leavesBefore = new int[maxLength][]; // leavesBefore[d][i] = leaves among the first i items
+        weight[maxLength - 1] = new long[n]; // Deepest level holds only leaves
+        leavesBefore[maxLength - 1] = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            weight[maxLength - 1][i] = leaves[i] >>> 32;
+            leavesBefore[maxLength - 1][i + 1] = i + 1;
+        }
+        for (int d = maxLength - 2; d >= 0; d--) { // Builds levels bottom-up
+            long[] below = weight[d + 1]; // Items one level deeper
+            int packages = below.length / 2; // Pairs of cheapest items
+            int size = n + packages; // Leaves plus packages
+            long[] items = new long[size];
+            int[] before = new int[size + 1];
+            int leaf = 0, pkg = 0; // Merge cursors
+            for (int i = 0; i < size; i++) { // Merges two sorted sequences, leaves first on ties
+                long pkgWeight = pkg < packages ? below[2 * pkg] + below[2 * pkg + 1] : Long.MAX_VALUE;
+                if (leaf < n && (leaves[leaf] >>> 32) <= pkgWeight) {
+                    items[i] = leaves[leaf++] >>> 32;
+                } else {
+                    items[i] = pkgWeight;
+                    pkg++;
+                }
+                before[i + 1] = leaf;
+            }
+            weight[d] = items;
+            leavesBefore[d] = before;
+        }
+        // Take the 2n - 2 cheapest items of the top level; every package expands into two items one level deeper
+        int take = 2 * n - 2; // Items chosen at this level
+        for (int d = 0; d < maxLength && take > 0; d++) {
+            int chosenLeaves = leavesBefore[d][take]; // The cheapest chosen leaves gain one bit each
+            for (int i = 0; i < chosenLeaves; i++) {
+                lengths[(int) leaves[i]]++;
+            }
+            take = 2 * (take - chosenLeaves); // Packages open up one level deeper
+        }
+        return lengths; // Returns lengths
+    } // Summary: Package-merge: minimum-cost prefix code lengths with every length <= maxLength (O(n * maxLength) time).
+
+    // Private method to install canonical codes for given lengths
+    private void useCodeLengths(int[] lengths, int[] freq) { // Lengths indexed by char, 0 = absent
+        int maxLength = 0; // Longest code
+        for (int length : lengths) {
+            if (length < 0 || length > MAX_CODE_LENGTH) { // Must fit the 64-bit accumulators with 7 pending bits
+                throw new IllegalArgumentException("Code length " + length + " out of range");
+            }
+            maxLength = Math.max(maxLength, length);
+        }
+        int[] countPerLength = new int[maxLength + 1]; // Codes of each length
+        for (int length : lengths) {
+            if (length > 0) {
+                countPerLength[length]++;
+            }
+        }
+        long[] nextCode = new long[maxLength + 1]; // First canonical code of each length
+        long code = 0; // Running code
+        long available = 1; // Unused codes of the current length, at most 2^length so it cannot overflow
+        for (int length = 1; length <= maxLength; length++) {
+            code = (code + countPerLength[length - 1]) << 1; // Skips codes used by shorter lengths
+            nextCode[length] = code;
+            available = (available << 1) - countPerLength[length]; // Kraft check one length at a time
+            if (available < 0) { // Over-subscribed lengths
+                throw new IllegalArgumentException("Code lengths do not form a prefix code");
+            }
+        }
+        if (maxLength == 0) { // No symbols
+            throw new IllegalArgumentException("Code lengths do not form a prefix code");
+        }
+        codeBits = new long[lengths.length]; // Indexed by char
+        codeLengths = new byte[lengths.length]; // Indexed by char
+        root = new Node(0, null, null); // Canonical tree, rebuilt from codes
+        for (int c = 0; c < lengths.length; c++) { // Same length: codes increase with char value
+            int length = lengths[c];
+            if (length == 0) { // Not in alphabet
+                continue;
+            }
+            codeBits[c] = nextCode[length]++; // Assigns next code of this length
+            codeLengths[c] = (byte) length; // Stores length
+            Node node = root; // Inserts code path into tree
+            for (int b = length - 1; b > 0; b--) {
+                boolean right = ((codeBits[c] >>> b) & 1) == 1; // Next branch
+                Node child = right ? node.right : node.left;
+                if (child == null) {
+                    child = new Node(0, null, null); // Internal node
+                    if (right) {
+                        node.right = child;
+                    } else {
+                        node.left = child;
+                    }
+                }
+                node = child;
+            }
+            Node leaf = new Node((char) c, freq[c]); // Leaf with frequency
+            if ((codeBits[c] & 1) == 1) {
+                node.right = leaf;
+            } else {
+                node.left = leaf;
+            }
+        }
+        sumCosts(root); // Internal costs for display
         encoder = new HashMap<>(); // Creates encoder map
-        if (root != null) { // If tree exists
-            buildCodes(root, ""); // Generates codes
+        buildCodes(root, ""); // Generates codes from the canonical tree
+        buildDecodeTable(); // Prefix table for the decoder
+    } // Summary: Assigns canonical codes (ordered by length, then char) and rebuilds all tables (O(k)).
+
+    // Private method to fill internal node costs
+    private int sumCosts(Node node) { // Post-order sum of leaf frequencies
+        if (node == null) {
+            return 0;
         }
-    } // Summary: Builds tree and encoder map (O(n log k), k=unique chars).
+        if (node.data == null) { // Internal node
+            node.cost = sumCosts(node.left) + sumCosts(node.right);
+        }
+        return node.cost; // Returns subtree cost
+    } // Summary: Sets every internal cost to the sum of its children.
+
+    // Public method to export the code-length header
+    public byte[] codeLengthHeader() { // Compact description of the code
+        int symbols = 0; // Chars in alphabet
+        for (byte length : codeLengths) {
+            if (length > 0) {
+                symbols++;
+            }
+        }
+        byte[] header = new byte[2 + 3 * symbols]; // Count, then (char, length) triples
+        header[0] = (byte) (symbols >>> 8); // Count, big-endian
+        header[1] = (byte) symbols;
+        int pos = 2; // Next write position
+        for (int c = 0; c < codeLengths.length; c++) { // Ascending char order
+            if (codeLengths[c] > 0) {
+                header[pos++] = (byte) (c >>> 8); // Char, big-endian
+                header[pos++] = (byte) c;
+                header[pos++] = codeLengths[c]; // Code length
+            }
+        }
+        return header; // Returns header
+    } // Summary: Serializes only per-char code lengths (3 bytes per char plus 2).
+
+    // Public factory rebuilding a coder from a header
+    public static HuffmanCoding fromHeader(byte[] header) { // Inverse of codeLengthHeader
+        return fromHeader(header, 65536); // Any char
+    } // Summary: Rebuilds encoder and decoder tables from code lengths (O(k + 2^TABLE_BITS)).
+
+    // Public factory rebuilding a coder whose symbols must lie in [0, alphabetSize)
+    public static HuffmanCoding fromHeader(byte[] header, int alphabetSize) { // E.g. 256 for byte streams
+        if (header == null || header.length < 2) { // Missing count
+            throw new IllegalArgumentException("Header too short");
+        }
+        int symbols = ((header[0] & 0xFF) << 8) | (header[1] & 0xFF); // Char count
+        if (symbols == 0 && header.length == 2) { // 65536 chars wrap to 0 in two bytes
+            throw new IllegalArgumentException("Header has no symbols");
+        }
+        if (symbols == 0) {
+            symbols = 65536;
+        }
+        if (header.length < 2 + 3 * symbols) { // Truncated
+            throw new IllegalArgumentException("Header too short for " + symbols + " symbols");
+        }
+        int previous = -1; // codeLengthHeader writes chars in strictly ascending order
+        for (int i = 0; i < symbols; i++) {
+            int c = ((header[2 + 3 * i] & 0xFF) << 8) | (header[3 + 3 * i] & 0xFF);
+            int length = header[4 + 3 * i] & 0xFF;
+            if (c <= previous || c >= alphabetSize) { // Repeated, unordered or outside the alphabet
+                throw new IllegalArgumentException("Symbol " + c + " out of range or order in header");
+            }
+            if (length < 1 || length > MAX_CODE_LENGTH) { // Listed chars always have a code
+                throw new IllegalArgumentException("Code length " + length + " out of range");
+            }
+            previous = c;
+        }
+        int[] lengths = new int[previous + 1]; // Lengths by char; previous is the largest char
+        for (int i = 0; i < symbols; i++) {
+            int c = ((header[2 + 3 * i] & 0xFF) << 8) | (header[3 + 3 * i] & 0xFF);
+            lengths[c] = header[4 + 3 * i] & 0xFF;
+        }
+        HuffmanCoding coder = new HuffmanCoding(); // Empty coder
+        coder.useCodeLengths(lengths, new int[lengths.length]); // Canonical codes follow from lengths alone; costs shown as 0
+        return coder; // Returns coder
+    } // Summary: Validates symbols and lengths, then rebuilds the tables; throws IllegalArgumentException on corrupt headers.
 
     // Private method to generate encoder map
     private void buildCodes(Node node, String code) { // Assigns codes
@@ -169,6 +515,207 @@ public class HuffmanCoding { // Declares class for Huffman Coding
         return encoded.toString(); // Returns encoded string
     } // Summary: Converts string to codes (O(n), n=string length).
 
+    // Public method to encode string into packed bits
+    public byte[] encodeToBytes(String source) { // Encodes input as real bits
+        if (source == null) { // Checks invalid input
+            source = ""; // Encodes as empty
+        }
+        return encodeToBytes(source, 0, source.length()); // Whole string
+    } // Summary: Encodes the whole string into packed bits.
+
+    // Public method to encode part of a string into packed bits
+    public byte[] encodeToBytes(String source, int begin, int end) { // Encodes source[begin, end)
+        long totalBits = 0; // Exact output size in bits
+        for (int i = begin; i < end; i++) { // First pass: validates and sizes output
+            char c = source.charAt(i); // Current char
+            if (c >= codeLengths.length || codeLengths[c] == 0) { // Char not found
+                throw new IllegalArgumentException("Character '" + c + "' not in tree");
+            }
+            totalBits += codeLengths[c]; // Adds code length
+        }
+        long payload = (totalBits + 7) >>> 3; // Bytes needed for the bits
+        if (payload > Integer.MAX_VALUE - 16) { // Beyond a Java array
+            throw new IllegalArgumentException("Encoded output too large for a byte array");
+        }
+        byte[] out = new byte[8 + (int) payload]; // Header plus packed bits
+        for (int i = 0; i < 8; i++) { // Header: bit count as 8-byte big-endian long
+            out[i] = (byte) (totalBits >>> (56 - 8 * i));
+        }
+        int pos = 8; // Next output byte
+        long acc = 0; // Bit accumulator, newest bits at the bottom
+        int bits = 0; // Pending bits in accumulator (always < 8 between chars)
+        for (int i = begin; i < end; i++) { // Second pass: writes codes
+            char c = source.charAt(i); // Current char
+            int length = codeLengths[c]; // Code length
+            acc = (acc << length) | codeBits[c]; // Appends code
+            bits += length; // Tracks pending bits
+            while (bits >= 8) { // Flushes whole bytes
+                bits -= 8;
+                out[pos++] = (byte) (acc >>> bits);
+            }
+        }
+        if (bits > 0) { // Partial last byte, padded with zeros
+            out[pos] = (byte) (acc << (8 - bits));
+        }
+        return out; // Returns header and bits
+    } // Summary: Writes codes MSB-first into a byte[] behind an 8-byte bit-length header (O(end - begin) time).
+
+    // Public method to encode bytes into packed bits
+    public byte[] encodeToBytes(byte[] data, int offset, int length) { // Encodes data[offset, offset + length)
+        long totalBits = 0; // Exact output size in bits
+        for (int i = offset; i < offset + length; i++) { // First pass: validates and sizes output
+            int c = data[i] & 0xFF; // Byte as symbol 0-255
+            if (c >= codeLengths.length || codeLengths[c] == 0) { // Byte not in alphabet
+                throw new IllegalArgumentException("Byte " + c + " not in tree");
+            }
+            totalBits += codeLengths[c]; // Adds code length
+        }
+        long payload = (totalBits + 7) >>> 3; // Bytes needed for the bits (at most 57 bits per input byte)
+        if (payload > Integer.MAX_VALUE - 16) { // Beyond a Java array
+            throw new IllegalArgumentException("Encoded output too large for a byte array");
+        }
+        byte[] out = new byte[8 + (int) payload]; // Header plus packed bits
+        for (int i = 0; i < 8; i++) { // Header: bit count as 8-byte big-endian long
+            out[i] = (byte) (totalBits >>> (56 - 8 * i));
+        }
+        int pos = 8; // Next output byte
+        long acc = 0; // Bit accumulator
+        int bits = 0; // Pending bits
+        for (int i = offset; i < offset + length; i++) { // Second pass: writes codes
+            int c = data[i] & 0xFF; // Symbol
+            int codeLength = codeLengths[c]; // Code length
+            acc = (acc << codeLength) | codeBits[c]; // Appends code
+            bits += codeLength;
+            while (bits >= 8) { // Flushes whole bytes
+                bits -= 8;
+                out[pos++] = (byte) (acc >>> bits);
+            }
+        }
+        if (bits > 0) { // Partial last byte
+            out[pos] = (byte) (acc << (8 - bits));
+        }
+        return out; // Returns header and bits
+    } // Summary: Byte-alphabet twin of encodeToBytes(String), same output format (O(length) time).
+
+    // Private method to build the multi-bit decode table
+    private void buildDecodeTable() { // Maps every TABLE_BITS-bit prefix to a symbol or a tree node
+        int entries = 1 << TABLE_BITS; // Table size
+        tableSymbol = new char[entries]; // Symbols
+        tableLength = new byte[entries]; // Lengths
+        tableNode = new Node[entries]; // Slow-path nodes
+        minCodeLength = Integer.MAX_VALUE; // Shortest code seen
+        for (int c = 0; c < codeLengths.length; c++) { // Each char in the tree
+            int length = codeLengths[c]; // Code length
+            if (length == 0) { // Not in tree
+                continue;
+            }
+            minCodeLength = Math.min(minCodeLength, length); // Tracks shortest
+            if (length <= TABLE_BITS) { // Code fits: fill every entry that starts with it
+                int first = (int) (codeBits[c] << (TABLE_BITS - length)); // Code followed by zeros
+                int last = first + (1 << (TABLE_BITS - length)); // One past code followed by ones
+                for (int i = first; i < last; i++) {
+                    tableSymbol[i] = (char) c;
+                    tableLength[i] = (byte) length;
+                }
+            } else { // Long code: remember where its first TABLE_BITS bits lead
+                int prefix = (int) (codeBits[c] >>> (length - TABLE_BITS)); // Leading bits
+                if (tableNode[prefix] == null) {
+                    Node node = root; // Walks prefix from the root
+                    for (int b = TABLE_BITS - 1; b >= 0; b--) {
+                        node = ((prefix >>> b) & 1) == 0 ? node.left : node.right;
+                    }
+                    tableNode[prefix] = node; // Subtree holding all codes with this prefix
+                }
+            }
+        }
+    } // Summary: Builds a 2^TABLE_BITS entry table so most codes decode in one probe (O(2^TABLE_BITS + k)).
+
+    // Public method to decode packed bits
+    public String decode(byte[] encoded) { // Inverse of encodeToBytes
+        return new String(decodeSymbols(encoded, 0, encoded == null ? 0 : encoded.length)); // Chars to text
+    } // Summary: Decodes packed bits back into the original string.
+
+    // Public method to decode packed bits stored inside a larger array
+    public String decode(byte[] encoded, int offset, int length) { // Decodes encoded[offset, offset + length)
+        return new String(decodeSymbols(encoded, offset, length)); // Chars to text
+    } // Summary: Decodes one encodeToBytes result embedded in a container without copying it out.
+
+    // Public method to decode packed bits into bytes
+    public byte[] decodeToBytes(byte[] encoded) { // Inverse of encodeToBytes(byte[], int, int)
+        char[] symbols = decodeSymbols(encoded, 0, encoded == null ? 0 : encoded.length); // Decoded symbols
+        byte[] out = new byte[symbols.length]; // One byte per symbol
+        for (int i = 0; i < symbols.length; i++) {
+            if (symbols[i] > 0xFF) { // Not a byte alphabet
+                throw new IllegalArgumentException("Decoded symbol " + (int) symbols[i] + " is not a byte");
+            }
+            out[i] = (byte) symbols[i];
+        }
+        return out; // Returns bytes
+    } // Summary: Decodes packed bits produced from a byte array.
+
+    // Private method decoding packed bits into symbols
+    private char[] decodeSymbols(byte[] encoded, int offset, int size) { // Shared decoder loop
+        if (encoded == null || size < 8 || offset < 0 || offset + size > encoded.length) { // Missing header
+            throw new IllegalArgumentException("Encoded input must start with an 8-byte bit count");
+        }
+        long totalBits = 0; // Bit count from header
+        for (int i = 0; i < 8; i++) {
+            totalBits = (totalBits << 8) | (encoded[offset + i] & 0xFF);
+        }
+        int limit = offset + size; // End of this payload
+        if (totalBits < 0 || totalBits > (long) (size - 8) * 8) { // Header disagrees with payload
+            throw new IllegalArgumentException("Corrupt input: bit count exceeds payload");
+        }
+        long maxSymbols = totalBits / minCodeLength; // Every symbol uses at least minCodeLength bits
+        if (maxSymbols > Integer.MAX_VALUE - 16) { // Beyond a Java array
+            throw new IllegalArgumentException("Decoded output too large for a String");
+        }
+        char[] out = new char[(int) maxSymbols]; // Upper bound on output
+        int count = 0; // Chars written
+        int mask = (1 << TABLE_BITS) - 1; // Low TABLE_BITS bits
+        int pos = offset + 8; // Next input byte
+        long window = 0; // Bit buffer, unread bits at the bottom
+        int available = 0; // Unread bits in window
+        long consumed = 0; // Bits decoded so far
+        while (consumed < totalBits) { // One symbol per iteration
+            while (available <= 56 && pos < limit) { // Refills whole bytes
+                window = (window << 8) | (encoded[pos++] & 0xFF);
+                available += 8;
+            }
+            int peek = available >= TABLE_BITS // Next TABLE_BITS bits, zero-padded at the end
+                    ? (int) (window >>> (available - TABLE_BITS)) & mask
+                    : (int) (window << (TABLE_BITS - available)) & mask;
+            int length = tableLength[peek]; // Code length if it fits the table
+            char symbol; // Decoded char
+            if (length > 0) { // Fast path: one probe
+                symbol = tableSymbol[peek];
+            } else { // Slow path: finish the long code bit by bit
+                Node node = tableNode[peek]; // Subtree after TABLE_BITS bits
+                length = TABLE_BITS; // Bits used so far
+                while (node != null && node.data == null) { // Descends to a leaf
+                    if (length >= available) { // Ran out of input bits
+                        node = null;
+                        break;
+                    }
+                    long bit = (window >>> (available - length - 1)) & 1; // Next bit
+                    node = bit == 0 ? node.left : node.right;
+                    length++;
+                }
+                if (node == null) { // No code matches
+                    throw new IllegalArgumentException("Corrupt input: invalid code at bit " + consumed);
+                }
+                symbol = node.data; // Leaf char
+            }
+            if (consumed + length > totalBits) { // Code runs into the padding
+                throw new IllegalArgumentException("Corrupt input: truncated code at bit " + consumed);
+            }
+            out[count++] = symbol; // Stores char
+            available -= length; // Consumes code
+            consumed += length; // Tracks progress
+        }
+        return count == out.length ? out : Arrays.copyOf(out, count); // Trims to decoded length
+    } // Summary: Table-driven decoding, one probe per code of up to TABLE_BITS bits (O(n) time).
+
     // Private method to get tree height
     private int getTreeHeight(Node node) { // Computes height for display
         if (node == null) { // Empty tree
@@ -242,7 +789,56 @@ public class HuffmanCoding { // Declares class for Huffman Coding
     } // Summary: Prints grid as tree.
 
     // Main function with test cases
-    public static void main(String[] args) { // Tests Huffman coding
+    // Private helper generating a skewed letter mix
+    private static String skewedText(int length, long seed) { // Same mix for tests and benchmark
+        java.util.Random random = new java.util.Random(seed); // Fixed seed
+        String alphabet = "eeeeeeettttaaaoooiinnsshhrdlu  "; // Skewed letter mix
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString(); // Returns text
+    } // Summary: Returns length pseudo-random chars with English-like skew.
+
+    // Private benchmark timing bit packing, table decoding and counting on 16M symbols
+    private static void benchmark() throws Exception { // Prints throughput
+        String input = skewedText(1 << 24, 11); // 16M chars
+        HuffmanCoding coder = new HuffmanCoding(input); // Builds codes
+        coder.encodeToBytes(input); // Warm-up
+        long begin = System.nanoTime(); // Times bit packing
+        byte[] packed = coder.encodeToBytes(input);
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        System.out.printf("Packed %d chars into %d bytes at %.0f MB/s%n", input.length(), packed.length,
+                input.length() / seconds / 1e6);
+        coder.decode(packed); // Warm-up
+        begin = System.nanoTime(); // Times table decoding
+        String decoded = coder.decode(packed);
+        seconds = (System.nanoTime() - begin) / 1e9;
+        System.out.printf("Decoded back at %.0f MB/s, round trip: %b%n", input.length() / seconds / 1e6,
+                decoded.equals(input));
+        byte[] bytes = new byte[1 << 24]; // 16 MB of skewed bytes
+        java.util.Random random = new java.util.Random(15); // Fixed seed
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (random.nextInt(8) == 0 ? random.nextInt(256) : 'e');
+        }
+        countBytes(bytes, 0, bytes.length); // Warm-up
+        begin = System.nanoTime(); // Times interleaved counting
+        int[] sequential = countBytes(bytes, 0, bytes.length);
+        seconds = (System.nanoTime() - begin) / 1e9;
+        int[] parallel = countBytesParallel(bytes, 0, bytes.length, ForkJoinPool.commonPool()); // Same on all cores
+        System.out.printf("Counted %d bytes at %.0f MB/s, parallel histogram matches: %b%n", bytes.length,
+                bytes.length / seconds / 1e6, Arrays.equals(sequential, parallel));
+    } // Summary: Times encodeToBytes, decode and byte counting; run with --bench.
+
+    public static void main(String[] args) { // Tests Huffman coding; pass --bench for timings
+        if (Arrays.asList(args).contains("--bench")) { // Benchmark only
+            try {
+                benchmark();
+            } catch (Exception e) {
+                System.out.println("Error: " + e.getMessage());
+            }
+            return;
+        }
         Scanner scanner = new Scanner(System.in); // For input
 
         // Test Case 1: Interactive input
@@ -255,11 +851,158 @@ public class HuffmanCoding { // Declares class for Huffman Coding
             hc1.displayTree(); // Shows tree
             String encoded1 = hc1.encode(input1); // Encodes
             System.out.println("Encoded string: " + encoded1); // Prints result
+            byte[] packed1 = hc1.encodeToBytes(input1); // Packs bits
+            System.out.println("Packed size: " + packed1.length + " bytes (8-byte header + "
+                    + (packed1.length - 8) + " bytes) vs " + encoded1.length() * 2 + " bytes for the bit string");
+            System.out.println("Round trip: " + hc1.decode(packed1).equals(input1)); // Expected: true
         } catch (Exception e) {
             System.out.println("Error: " + e.getMessage()); // Handles errors
         }
         System.out.println();
 
+        // Test Case 2: Packed output for a known string
+        System.out.println("Test Case 2: Packed Bits");
+        System.out.println("-----------------------------");
+        try {
+            HuffmanCoding hc2 = new HuffmanCoding("aaaaab"); // 'a' gets a 1-bit code
+            String encoded2 = hc2.encode("aaaaab"); // 6 bits as text
+            byte[] packed2 = hc2.encodeToBytes("aaaaab"); // 6 bits packed
+            System.out.println("Bit string: " + encoded2 + ", packed bytes: " + packed2.length); // Expected: 9 (8 + 1)
+            System.out.println("Decoded: " + hc2.decode(packed2)); // Expected: aaaaab
+            HuffmanCoding single = new HuffmanCoding("zzz"); // One distinct char
+            System.out.println("Single-char round trip: " + single.decode(single.encodeToBytes("zzz"))); // Expected: zzz
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+        System.out.println();
+
+        // Test Case 3: Packed round trip on a larger input (timings: run with --bench)
+        System.out.println("Test Case 3: Packed Round Trip");
+        System.out.println("-----------------------------");
+        try {
+            String input3 = skewedText(100_000, 11); // Skewed letter mix
+            HuffmanCoding hc3 = new HuffmanCoding(input3); // Builds codes
+            byte[] packed3 = hc3.encodeToBytes(input3);
+            long bits3 = 0; // Exact payload size from the code lengths
+            for (int i = 0; i < input3.length(); i++) {
+                bits3 += hc3.codeLengths[input3.charAt(i)];
+            }
+            System.out.println("Packed size exact: " + (packed3.length == 8 + (bits3 + 7) / 8)
+                    + ", round trip: " + hc3.decode(packed3).equals(input3)); // Expected: true, true
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+        System.out.println();
+
+        // Test Case 4: Codes longer than one table probe
+        System.out.println("Test Case 4: Long Codes");
+        System.out.println("-----------------------------");
+        try {
+            StringBuilder skewed = new StringBuilder(); // Fibonacci frequencies give a maximally deep tree
+            int a = 1, b = 1; // Fibonacci pair
+            for (char c = 'a'; c <= 'p'; c++) { // 16 chars, deepest code 15 bits
+                for (int i = 0; i < a; i++) {
+                    skewed.append(c);
+                }
+                int next = a + b;
+                a = b;
+                b = next;
+            }
+            String input4 = skewed.toString();
+            HuffmanCoding hc4 = new HuffmanCoding(input4); // Deep tree
+            System.out.println("Code for 'a': " + hc4.encode("a") + " (" + hc4.encode("a").length() + " bits)");
+            System.out.println("Round trip: " + hc4.decode(hc4.encodeToBytes(input4)).equals(input4)); // Expected: true
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+        System.out.println();
+
+        // Test Case 5: Canonical codes from a compact header
+        System.out.println("Test Case 5: Canonical Header");
+        System.out.println("-----------------------------");
+        try {
+            String input5 = "abracadabra"; // Sample text
+            HuffmanCoding sender = new HuffmanCoding(input5); // Builds canonical codes
+            byte[] header = sender.codeLengthHeader(); // Lengths only
+            byte[] payload = sender.encodeToBytes(input5); // Packed bits
+            HuffmanCoding receiver = HuffmanCoding.fromHeader(header); // Rebuilt without the input
+            System.out.println("Header bytes: " + header.length); // Expected: 17 (5 chars)
+            System.out.println("Codes: a=" + receiver.encode("a") + " b=" + receiver.encode("b") + " r="
+                    + receiver.encode("r") + " c=" + receiver.encode("c") + " d=" + receiver.encode("d")); // Expected: a=0 b=100 r=111 c=101 d=110
+            System.out.println("Receiver decodes: " + receiver.decode(payload)); // Expected: abracadabra
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+        byte[] corrupt = new byte[2 + 3 * 257]; // 256 chars of length 1 plus one of length 57
+        corrupt[0] = 1; // Count 257, big-endian
+        corrupt[1] = 1;
+        for (int i = 0; i < 257; i++) {
+            corrupt[2 + 3 * i] = (byte) (i >>> 8); // Char i
+            corrupt[3 + 3 * i] = (byte) i;
+            corrupt[4 + 3 * i] = (byte) (i < 256 ? 1 : 57); // Lengths sum far past the Kraft limit
+        }
+        try {
+            HuffmanCoding.fromHeader(corrupt);
+            System.out.println("Corrupt header: accepted");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Corrupt header: " + e.getMessage()); // Expected: Code lengths do not form a prefix code
+        }
+        System.out.println();
+
+        // Test Case 6: Primitive histograms (timings: run with --bench)
+        System.out.println("Test Case 6: Frequency Counting");
+        System.out.println("-----------------------------");
+        byte[] bytes6 = new byte[1 << 20]; // 1 MB of skewed bytes, several parallel slices
+        java.util.Random random6 = new java.util.Random(15); // Fixed seed
+        int[] expected6 = new int[256]; // Plain loop as the oracle
+        for (int i = 0; i < bytes6.length; i++) {
+            bytes6[i] = (byte) (random6.nextInt(8) == 0 ? random6.nextInt(256) : 'e');
+            expected6[bytes6[i] & 0xFF]++;
+        }
+        int[] sequential6 = countBytes(bytes6, 0, bytes6.length);
+        int[] parallel6 = countBytesParallel(bytes6, 0, bytes6.length, ForkJoinPool.commonPool()); // Same on all cores
+        System.out.println("Interleaved histogram matches: " + Arrays.equals(sequential6, expected6)
+                + ", parallel histogram matches: " + Arrays.equals(parallel6, expected6)); // Expected: true, true
+        System.out.println();
+
+        // Test Case 7: Length-limited codes
+        System.out.println("Test Case 7: Length-Limited Codes");
+        System.out.println("-----------------------------");
+        try {
+            int[] fib7 = new int[40]; // Fibonacci frequencies: unlimited Huffman needs 39-bit codes
+            fib7[0] = fib7[1] = 1;
+            for (int i = 2; i < fib7.length; i++) {
+                fib7[i] = fib7[i - 1] + fib7[i - 2];
+            }
+            int[] freq7 = new int[128]; // Spread over chars '0'..'W'
+            for (int i = 0; i < fib7.length; i++) {
+                freq7['0' + i] = Math.max(1, fib7[i] / 1000); // Scaled to keep the demo input small
+            }
+            StringBuilder text7 = new StringBuilder();
+            for (int c = 0; c < freq7.length; c++) {
+                for (int i = 0; i < freq7[c]; i++) {
+                    text7.append((char) c);
+                }
+            }
+            String input7 = text7.toString();
+            HuffmanCoding free7 = new HuffmanCoding(input7); // Unlimited
+            HuffmanCoding limited7 = new HuffmanCoding(input7, TABLE_BITS); // Every code fits one table probe
+            int longestFree = 0, longestLimited = 0; // Longest code of each coder
+            for (int c = 0; c < freq7.length; c++) {
+                if (freq7[c] > 0) { // Only chars in the tree
+                    longestFree = Math.max(longestFree, free7.codeLengths[c]);
+                    longestLimited = Math.max(longestLimited, limited7.codeLengths[c]);
+                }
+            }
+            System.out.println("Longest code: " + longestFree + " bits unlimited, " + longestLimited + " bits limited"); // Expected: 15 unlimited, 10 limited
+            System.out.printf("Bits: %d unlimited, %d limited%n", free7.encode(input7).length(), limited7.encode(input7).length());
+            System.out.println("Round trip: " + limited7.decode(limited7.encodeToBytes(input7)).equals(input7)); // Expected: true
+            int[] lengths7 = limitedCodeLengths(new int[] {1, 1, 2, 4}, 2); // Four symbols squeezed into 2 bits
+            System.out.println("Lengths with limit 2: " + Arrays.toString(lengths7)); // Expected: [2, 2, 2, 2]
+        } catch (Exception e) {
+            System.out.println("Error: " + e.getMessage());
+        }
+        System.out.println();
 
         scanner.close(); // Closes scanner
     } // Summary: Tests encoding with various strings.
@@ -310,37 +1053,38 @@ e: 1
 l: 2
 o: 1
 In Your Code:
-Uses HashMap<Character, Integer> freqMap.
-Loops through the string: freqMap.put(c, freqMap.getOrDefault(c, 0) + 1).
-Stores: {h=1, e=1, l=2, o=1}.
-Step 2: Put Characters in a Priority Queue (Min-Heap)
-Each character becomes a "node" with its frequency (called cost in your code).
-Put these nodes in a min-heap, which always gives you the two least frequent characters first.
+Uses an int[65536] histogram (countChars), one counter per char value.
+Loops through the string: freq[input.charAt(i)]++.
+Stores: freq['h']=1, freq['e']=1, freq['l']=2, freq['o']=1.
+Step 2: Sort Characters by Frequency
+Each character becomes a leaf with its frequency (called cost in your code).
+Sort the leaves so the least frequent come first. This sorted list is the first queue.
 Analogy: Line up guests by how rarely they attend (rarest first).
 Example:
-Nodes: h(1), e(1), l(2), o(1).
-Heap orders by frequency: h(1), e(1), o(1), l(2).
+Leaves: h(1), e(1), l(2), o(1).
+Sorted by frequency: e(1), h(1), o(1), l(2).
 In Your Code:
-MinHeap class stores Node objects (data=char, cost=freq).
-insert adds nodes: minHeap.insert(new Node(entry.getKey(), entry.getValue())).
-remove gets lowest: minHeap.remove().
+sortedByFrequency packs each char as (freq << 32) | char into a long[] and sorts it.
 Step 3: Build a Tree by Combining Least Frequent Nodes
 Take the two nodes with the smallest frequencies, combine them into a new node with their frequencies added.
-Put the new node back in the heap.
+Merged nodes come out in increasing order, so they go into a second queue; the two smallest are always at the front of one of the two queues.
 Repeat until only one node remains (the root of the tree).
 Analogy: Pair up the rarest guests into groups, then pair groups, until everyone’s in one big family tree.
 Example for "hello":
-Heap: h(1), e(1), o(1), l(2).
-Take h(1) and e(1), make node 2 (left=h, right=e).
-Heap: 2(he), o(1), l(2).
-Take 2(he) and o(1), make node 3 (left=he, right=o).
-Heap: 3(heo), l(2).
-Take 3(heo) and l(2), make node 5 (left=heo, right=l).
+Leaves: e(1), h(1), o(1), l(2). Merged: (empty).
+Take e(1) and h(1), make node 2 (left=e, right=h).
+Leaves: o(1), l(2). Merged: 2(eh).
+Fronts are o(1) and 2(eh); both are at most l(2), so take o(1) and 2(eh), make node 3 (left=o, right=eh).
+Leaves: l(2). Merged: 3(oeh).
+Take l(2) and 3(oeh), make node 5 (left=l, right=oeh).
 Done! Root = 5.
+In Your Code:
+huffmanCodeLengths runs both queues inside one long[] (Moffat-Katajainen), keeping only each char's depth, which is its code length.
+useCodeLengths then turns the lengths into canonical codes and a tree.
 
     5
    / \
-  3   l
- / \
-2   o
+  l   3
+     / \
+    o   2
   */
\ No newline at end of file
@@ -0,0 +1,243 @@
+package Concept; // Organizes class in package
+
+import java.io.ByteArrayInputStream; // In-memory streams for the demo
+import java.io.ByteArrayOutputStream; // In-memory streams for the demo
+import java.io.DataInputStream; // Reads framed blocks
+import java.io.DataOutputStream; // Writes framed blocks
+import java.io.EOFException; // Truncated input
+import java.io.IOException; // Stream failures
+import java.io.InputStream; // Source of bytes
+import java.io.OutputStream; // Sink of bytes
+import java.nio.ByteBuffer; // Reads header size in the demo
+import java.nio.MappedByteBuffer; // Memory-mapped file windows
+import java.nio.channels.FileChannel; // File access
+import java.nio.file.Files; // Temp files for the demo
+import java.nio.file.Path; // Temp files for the demo
+import java.nio.file.StandardOpenOption; // Open modes
+
+public class HuffmanStream { // Streaming Huffman compression over bytes with bounded memory
+
+    // Format: MAGIC, header length (int), HuffmanCoding.codeLengthHeader(), then blocks of
+    // (original byte count (int), payload length (int), HuffmanCoding.encodeToBytes payload), ended by a 0 count
+    private static final int MAGIC = 0x48554631; // "HUF1"
+    private static final int BLOCK_SIZE = 1 << 20; // Bytes encoded per block, bounds every buffer
+    private static final long MAP_WINDOW = 1L << 26; // Bytes mapped at once when scanning a file
+    private static final int MAX_HEADER = 2 + 3 * 65536; // Largest codeLengthHeader: every char present
+    private static final int MAX_PAYLOAD = 8 + (int) (((long) BLOCK_SIZE * HuffmanCoding.MAX_CODE_LENGTH + 7) / 8); // Full block of longest codes
+
+    private HuffmanStream() { // Static utility
+    } // Summary: Prevents instantiation.
+
+    // Public method to compress a stream in one pass using a sampled frequency table
+    public static void compress(InputStream in, OutputStream out) throws IOException { // Compresses in to out
+        byte[] block = new byte[BLOCK_SIZE]; // Reused input buffer
+        int length = in.readNBytes(block, 0, BLOCK_SIZE); // First block doubles as the sample
+        int[] sample = HuffmanCoding.countBytes(block, 0, length); // Byte histogram of the sample
+        long[] counts = new long[256]; // Smoothed counts
+        for (int b = 0; b < 256; b++) { // Every byte stays encodable even if the sample missed it
+            counts[b] = sample[b] + 1L;
+        }
+        HuffmanCoding coder = HuffmanCoding.fromFrequencies(scale(counts)); // Codes from the sample
+        DataOutputStream data = writeHeader(coder, out); // Magic and code lengths
+        while (length > 0) { // Encodes block by block
+            writeBlock(coder, block, length, data);
+            length = in.readNBytes(block, 0, BLOCK_SIZE);
+        }
+        data.writeInt(0); // End marker
+        data.flush(); // Pushes buffered output
+    } // Summary: Single pass, memory bounded by one block; codes come from the first block.
+
+    // Public method to compress a file channel in two passes with exact frequencies
+    public static void compress(FileChannel in, OutputStream out) throws IOException { // Compresses whole file
+        long size = in.size(); // File length
+        long[] counts = new long[256]; // Exact byte histogram
+        byte[] block = new byte[BLOCK_SIZE]; // Reused block buffer
+        for (long start = 0; start < size; start += MAP_WINDOW) { // First pass over mapped windows
+            MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, start, Math.min(MAP_WINDOW, size - start));
+            while (window.hasRemaining()) {
+                int length = Math.min(BLOCK_SIZE, window.remaining()); // Next block
+                window.get(block, 0, length); // Bulk copy beats per-byte get()
+                int[] partial = HuffmanCoding.countBytes(block, 0, length); // Interleaved counting
+                for (int b = 0; b < 256; b++) {
+                    counts[b] += partial[b]; // Long totals for multi-GB files
+                }
+            }
+        }
+        if (size == 0) { // Empty file still needs a valid code
+            counts[0] = 1;
+        }
+        HuffmanCoding coder = HuffmanCoding.fromFrequencies(scale(counts)); // Exact codes
+        DataOutputStream data = writeHeader(coder, out); // Magic and code lengths
+        for (long start = 0; start < size; start += MAP_WINDOW) { // Second pass encodes
+            MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, start, Math.min(MAP_WINDOW, size - start));
+            while (window.hasRemaining()) {
+                int length = Math.min(BLOCK_SIZE, window.remaining()); // Next block
+                window.get(block, 0, length); // Copies out of the mapping
+                writeBlock(coder, block, length, data);
+            }
+        }
+        data.writeInt(0); // End marker
+        data.flush(); // Pushes buffered output
+    } // Summary: Two passes over memory-mapped windows; memory bounded by one window plus one block.
+
+    // Public method to decompress a stream
+    public static void decompress(InputStream in, OutputStream out) throws IOException { // Inverse of compress
+        DataInputStream data = new DataInputStream(in); // Framed reader
+        if (data.readInt() != MAGIC) { // Wrong format
+            throw new IOException("Not a Huffman stream");
+        }
+        int headerLength = data.readInt(); // Code-length header size, checked before allocating
+        if (headerLength < 2 || headerLength > MAX_HEADER) { // Corrupt or hostile size
+            throw new IOException("Corrupt header length " + headerLength);
+        }
+        byte[] header = new byte[headerLength]; // Code-length header
+        data.readFully(header);
+        HuffmanCoding coder; // Rebuilt decoder
+        try {
+            coder = HuffmanCoding.fromHeader(header, 256); // Byte alphabet only
+        } catch (IllegalArgumentException e) { // Invalid symbols or code lengths
+            throw new IOException("Corrupt code-length header", e);
+        }
+        int block = 0; // Block number for error messages
+        while (true) {
+            int count = data.readInt(); // Original bytes in block
+            if (count == 0) { // End marker
+                break;
+            }
+            int payloadLength = data.readInt(); // Encoded block size
+            if (count < 0 || count > BLOCK_SIZE || payloadLength < 8 || payloadLength > MAX_PAYLOAD) { // Corrupt frame
+                throw new IOException("Corrupt block header");
+            }
+            byte[] payload = new byte[payloadLength]; // Encoded block
+            data.readFully(payload);
+            byte[] decoded; // Decoded block
+            try {
+                decoded = coder.decodeToBytes(payload);
+            } catch (IllegalArgumentException e) { // Bit count or codes disagree with the payload
+                throw new IOException("Corrupt block " + block, e);
+            }
+            if (decoded.length != count) { // Length check
+                throw new IOException("Block decoded to " + decoded.length + " bytes, expected " + count);
+            }
+            out.write(decoded); // Emits block
+            block++;
+        }
+        out.flush(); // Pushes output
+    } // Summary: Decodes block by block; memory bounded by one block.
+
+    // Private method to reduce counts so they fit HuffmanCoding's int frequencies
+    private static int[] scale(long[] counts) { // Halves counts until the total fits comfortably in an int
+        long total = 0; // Sum of counts
+        for (long c : counts) {
+            total += c;
+        }
+        int shift = 0; // Halvings needed
+        while ((total >>> shift) > Integer.MAX_VALUE / 2) {
+            shift++;
+        }
+        int[] freq = new int[counts.length]; // Scaled frequencies
+        for (int i = 0; i < counts.length; i++) {
+            freq[i] = counts[i] == 0 ? 0 : (int) Math.max(1, counts[i] >>> shift); // Present bytes stay present
+        }
+        return freq; // Returns frequencies
+    } // Summary: Keeps relative frequencies for multi-GB inputs without int overflow.
+
+    // Private method to write magic and code lengths
+    private static DataOutputStream writeHeader(HuffmanCoding coder, OutputStream out) throws IOException { // Starts stream
+        DataOutputStream data = new DataOutputStream(out); // Framed writer
+        byte[] header = coder.codeLengthHeader(); // Canonical code lengths
+        data.writeInt(MAGIC); // Format marker
+        data.writeInt(header.length); // Header size
+        data.write(header); // Header
+        return data; // Returns writer
+    } // Summary: Writes the stream header.
+
+    // Private method to write one encoded block
+    private static void writeBlock(HuffmanCoding coder, byte[] block, int length, DataOutputStream data) throws IOException { // Frames a block
+        byte[] payload = coder.encodeToBytes(block, 0, length); // Packs bits
+        data.writeInt(length); // Original size
+        data.writeInt(payload.length); // Encoded size
+        data.write(payload); // Encoded bits
+    } // Summary: Encodes and frames one block.
+
+    // Main function with test cases
+    public static void main(String[] args) throws IOException { // Entry point for testing
+        java.util.Random random = new java.util.Random(14); // Fixed seed
+        byte[] text = new byte[5 * BLOCK_SIZE + 12345]; // Several blocks plus a partial one
+        String alphabet = "eeeeeeettttaaaoooiinnsshhrdlu  \n"; // Log-like letter mix
+        for (int i = 0; i < text.length; i++) {
+            text[i] = (byte) alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+
+        // Test Case 1: InputStream/OutputStream round trip
+        System.out.println("Test Case 1: Stream Round Trip");
+        System.out.println("-----------------------------");
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(); // Compressed bytes
+        compress(new ByteArrayInputStream(text), compressed);
+        ByteArrayOutputStream restored = new ByteArrayOutputStream(); // Decompressed bytes
+        decompress(new ByteArrayInputStream(compressed.toByteArray()), restored);
+        System.out.println("Original: " + text.length + " bytes, compressed: " + compressed.size() + " bytes");
+        System.out.println("Round trip: " + java.util.Arrays.equals(text, restored.toByteArray())); // Expected: true
+        System.out.println();
+
+        // Test Case 2: Memory-mapped file round trip
+        System.out.println("Test Case 2: File Channel Round Trip");
+        System.out.println("-----------------------------");
+        Path source = Files.createTempFile("huffman", ".log"); // Input file
+        Path target = Files.createTempFile("huffman", ".huf"); // Compressed file
+        try {
+            Files.write(source, text);
+            try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                 OutputStream out = new java.io.BufferedOutputStream(Files.newOutputStream(target))) {
+                compress(in, out);
+            }
+            ByteArrayOutputStream fromFile = new ByteArrayOutputStream(); // Decompressed bytes
+            try (InputStream in = new java.io.BufferedInputStream(Files.newInputStream(target))) {
+                decompress(in, fromFile);
+            }
+            System.out.println("Compressed file: " + Files.size(target) + " bytes");
+            System.out.println("Round trip: " + java.util.Arrays.equals(text, fromFile.toByteArray())); // Expected: true
+        } finally {
+            Files.deleteIfExists(source);
+            Files.deleteIfExists(target);
+        }
+        System.out.println();
+
+        // Test Case 3: Empty input and truncated stream
+        System.out.println("Test Case 3: Edge Cases");
+        System.out.println("-----------------------------");
+        ByteArrayOutputStream empty = new ByteArrayOutputStream(); // Compressed empty input
+        compress(new ByteArrayInputStream(new byte[0]), empty);
+        ByteArrayOutputStream emptyOut = new ByteArrayOutputStream();
+        decompress(new ByteArrayInputStream(empty.toByteArray()), emptyOut);
+        System.out.println("Empty round trip size: " + emptyOut.size()); // Expected: 0
+        byte[] truncated = java.util.Arrays.copyOf(compressed.toByteArray(), compressed.size() / 2); // Cut in half
+        try {
+            decompress(new ByteArrayInputStream(truncated), new ByteArrayOutputStream());
+        } catch (EOFException e) {
+            System.out.println("Truncated stream rejected"); // Expected
+        }
+        byte[] hostile = java.util.Arrays.copyOf(compressed.toByteArray(), 8); // Magic, then a huge header length
+        hostile[4] = 0x7F; // Header length near Integer.MAX_VALUE
+        try {
+            decompress(new ByteArrayInputStream(hostile), new ByteArrayOutputStream());
+        } catch (IOException e) {
+            System.out.println("Hostile header length: " + e.getMessage()); // Expected: rejected before allocating
+        }
+        byte[] badLengths = compressed.toByteArray().clone(); // Same stream, one code length rewritten
+        badLengths[8 + 2 + 2] = 1; // First char gets a 1-bit code, over-subscribing the lengths
+        try {
+            decompress(new ByteArrayInputStream(badLengths), new ByteArrayOutputStream());
+        } catch (IOException e) {
+            System.out.println("Corrupt code lengths: " + e.getMessage()); // Expected: Corrupt code-length header
+        }
+        byte[] badPayload = compressed.toByteArray().clone(); // Same stream, first block's bit count inflated
+        int firstBlock = 8 + ByteBuffer.wrap(badPayload).getInt(4); // Past magic, header size and header
+        badPayload[firstBlock + 8] = 0x7F; // High byte of the payload's 8-byte bit count
+        try {
+            decompress(new ByteArrayInputStream(badPayload), new ByteArrayOutputStream());
+        } catch (IOException e) {
+            System.out.println("Corrupt payload: " + e.getMessage()); // Expected: Corrupt block 0
+        }
+    } // Summary: Tests stream and file-channel round trips plus edge cases.
+}
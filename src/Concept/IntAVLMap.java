@@ -0,0 +1,392 @@
+package Concept; // Organizes class in package
+
+import java.util.Arrays; // For growing node arrays
+
+public class IntAVLMap { // Ordered int -> long map as an AVL tree in parallel primitive arrays
+
+    // Node handle 0 is the null child; its height stays 0
+    private int[] keys; // Key per node
+    private long[] values; // Value per node
+    private int[] left; // Left child handle, doubles as next pointer in the free list
+    private int[] right; // Right child handle
+    private byte[] height; // Height per node, 1 for a leaf; AVL height fits a byte for any int key set
+    private int root; // Root handle, 0 when empty
+    private int used = 1; // Handles handed out so far (0 is reserved)
+    private int free; // Head of the free list, 0 when empty
+    private int size; // Entries stored
+    private final int[] path = new int[64]; // Root-to-node path for put/remove
+
+    // Functional interface for range scans
+    public interface IntLongConsumer { // Avoids boxing keys and values
+        void accept(int key, long value); // Receives one entry
+    } // Summary: Callback for forEachInRange.
+
+    // Constructor with default capacity
+    public IntAVLMap() { // Initializes empty map
+        this(16); // Small start, arrays double as needed
+    } // Summary: Creates an empty map.
+
+    // Constructor with expected size
+    public IntAVLMap(int expectedSize) { // Avoids regrowth for known sizes
+        if (expectedSize < 0) { // Invalid capacity
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        int capacity = expectedSize + 1; // Plus the null handle
+        keys = new int[capacity];
+        values = new long[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        height = new byte[capacity];
+    } // Summary: Preallocates node arrays.
+
+    // Public method returning the number of entries
+    public int size() { // Entries stored
+        return size;
+    } // Summary: Returns entry count (O(1)).
+
+    // Public method to check if the map is empty
+    public boolean isEmpty() { // No entries
+        return size == 0;
+    } // Summary: Returns true if map has no entries.
+
+    // Public method to look up a key
+    public long get(int key, long defaultValue) { // defaultValue if absent
+        int node = find(key);
+        return node == 0 ? defaultValue : values[node];
+    } // Summary: Iterative search (O(log n) time).
+
+    // Public method to check for a key
+    public boolean containsKey(int key) { // Iterative search
+        return find(key) != 0;
+    } // Summary: Returns true if key is present (O(log n) time).
+
+    // Private method finding a key's handle
+    private int find(int key) { // 0 if absent
+        int node = root;
+        while (node != 0 && keys[node] != key) { // Descends one level per step
+            node = key < keys[node] ? left[node] : right[node];
+        }
+        return node; // Returns handle
+    } // Summary: Walks from the root to the key.
+
+    // Public method to insert or replace a value
+    public boolean put(int key, long value) { // True if the key was new
+        int depth = 0; // Nodes on path
+        int node = root;
+        while (node != 0) { // Descends, remembering the path
+            if (key == keys[node]) { // Existing key
+                values[node] = value; // Replaces value
+                return false;
+            }
+            path[depth++] = node;
+            node = key < keys[node] ? left[node] : right[node];
+        }
+        int leaf = allocate(key, value); // New node
+        size++;
+        if (depth == 0) { // Empty map
+            root = leaf;
+            return true;
+        }
+        int parent = path[depth - 1]; // Attaches leaf
+        if (key < keys[parent]) {
+            left[parent] = leaf;
+        } else {
+            right[parent] = leaf;
+        }
+        rebalancePath(depth, true); // Fixes heights and balance bottom-up
+        return true;
+    } // Summary: Inserts or updates with an explicit path stack (O(log n) time).
+
+    // Public method to remove a key
+    public boolean remove(int key) { // True if the key was present
+        int depth = 0; // Nodes on path
+        int node = root;
+        while (node != 0 && keys[node] != key) { // Descends, remembering the path
+            path[depth++] = node;
+            node = key < keys[node] ? left[node] : right[node];
+        }
+        if (node == 0) { // Key not present
+            return false;
+        }
+        if (left[node] != 0 && right[node] != 0) { // Two children: take the successor's entry
+            path[depth++] = node;
+            int successor = right[node]; // Leftmost node of right subtree
+            while (left[successor] != 0) {
+                path[depth++] = successor;
+                successor = left[successor];
+            }
+            keys[node] = keys[successor]; // Copies successor up
+            values[node] = values[successor];
+            node = successor; // Successor is removed instead
+        }
+        int child = left[node] != 0 ? left[node] : right[node]; // Zero or one child: splice out
+        if (depth == 0) {
+            root = child;
+        } else if (left[path[depth - 1]] == node) {
+            left[path[depth - 1]] = child;
+        } else {
+            right[path[depth - 1]] = child;
+        }
+        release(node); // Handle goes back to the free list
+        size--;
+        rebalancePath(depth, false); // Fixes heights and balance bottom-up
+        return true;
+    } // Summary: Deletes with an explicit path stack and recycles the node (O(log n) time).
+
+    // Public method for the largest key <= given key
+    public Integer floorKey(int key) { // null if none, like TreeMap
+        int best = 0; // Handle of the best candidate so far, 0 for none
+        int node = root;
+        while (node != 0) {
+            if (keys[node] == key) { // Exact match
+                return key;
+            }
+            if (keys[node] < key) { // Candidate, look for a larger one
+                best = node;
+                node = right[node];
+            } else {
+                node = left[node];
+            }
+        }
+        return best == 0 ? null : keys[best]; // Boxes only the answer
+    } // Summary: Iterative floor (O(log n) time).
+
+    // Public method for the smallest key >= given key
+    public Integer ceilingKey(int key) { // null if none, like TreeMap
+        int best = 0; // Handle of the best candidate so far, 0 for none
+        int node = root;
+        while (node != 0) {
+            if (keys[node] == key) { // Exact match
+                return key;
+            }
+            if (keys[node] > key) { // Candidate, look for a smaller one
+                best = node;
+                node = left[node];
+            } else {
+                node = right[node];
+            }
+        }
+        return best == 0 ? null : keys[best]; // Boxes only the answer
+    } // Summary: Iterative ceiling (O(log n) time).
+
+    // Public method to visit every entry with lo <= key <= hi in key order
+    public void forEachInRange(int lo, int hi, IntLongConsumer action) { // Ascending keys
+        int[] stack = new int[height[root] + 1]; // Left spine of unvisited nodes, one int per level
+        int top = 0;
+        int node = root;
+        while (node != 0) { // Descends to the first key >= lo
+            if (keys[node] >= lo) {
+                stack[top++] = node;
+                node = left[node];
+            } else {
+                node = right[node];
+            }
+        }
+        while (top > 0 && keys[stack[top - 1]] <= hi) { // In-order until past hi
+            node = stack[--top];
+            action.accept(keys[node], values[node]);
+            for (int child = right[node]; child != 0; child = left[child]) { // Left spine of right subtree
+                stack[top++] = child;
+            }
+        }
+    } // Summary: In-order range scan (O(log n + matches) time).
+
+    // Private method to update heights and rotate along the recorded path
+    private void rebalancePath(int depth, boolean insertion) { // path[0..depth) from root down
+        for (int i = depth - 1; i >= 0; i--) { // Bottom-up
+            int node = path[i];
+            byte oldHeight = height[node]; // Height before this update
+            updateHeight(node);
+            int balanced = rotate(node); // Balances via rotations
+            if (balanced != node) { // Subtree root changed: relink parent
+                if (i == 0) {
+                    root = balanced;
+                } else if (left[path[i - 1]] == node) {
+                    left[path[i - 1]] = balanced;
+                } else {
+                    right[path[i - 1]] = balanced;
+                }
+                if (insertion) { // One rotation restores the pre-insert height
+                    return;
+                }
+            } else if (height[node] == oldHeight) { // Nothing changed above this node
+                return;
+            }
+        }
+    } // Summary: Stops as soon as a subtree height is unchanged (O(log n) worst case).
+
+    // Private method to balance a node via rotations
+    private int rotate(int node) { // Returns new subtree root
+        int balanceFactor = height[left[node]] - height[right[node]]; // Computes balance factor
+        if (balanceFactor > 1) { // Left-heavy
+            if (height[left[left[node]]] < height[right[left[node]]]) { // Left-Right case
+                left[node] = leftRotate(left[node]);
+            }
+            return rightRotate(node);
+        }
+        if (balanceFactor < -1) { // Right-heavy
+            if (height[right[right[node]]] < height[left[right[node]]]) { // Right-Left case
+                right[node] = rightRotate(right[node]);
+            }
+            return leftRotate(node);
+        }
+        return node; // No rotation needed
+    } // Summary: Balances node using LL, LR, RR, RL rotations (O(1) time).
+
+    // Private method for right rotation
+    private int rightRotate(int node) { // Left child becomes subtree root
+        int newRoot = left[node];
+        left[node] = right[newRoot];
+        right[newRoot] = node;
+        updateHeight(node);
+        updateHeight(newRoot);
+        return newRoot;
+    } // Summary: Rotates right (O(1) time).
+
+    // Private method for left rotation
+    private int leftRotate(int node) { // Right child becomes subtree root
+        int newRoot = right[node];
+        right[node] = left[newRoot];
+        left[newRoot] = node;
+        updateHeight(node);
+        updateHeight(newRoot);
+        return newRoot;
+    } // Summary: Rotates left (O(1) time).
+
+    // Private method to recompute a node's height
+    private void updateHeight(int node) { // From children
+        height[node] = (byte) (Math.max(height[left[node]], height[right[node]]) + 1);
+    } // Summary: Sets height to 1 + max child height.
+
+    // Private method to get a node handle
+    private int allocate(int key, long value) { // Reuses freed handles first
+        int node;
+        if (free != 0) { // Pops free list
+            node = free;
+            free = left[node];
+        } else {
+            if (used == keys.length) { // Grows all arrays together
+                int capacity = keys.length * 2;
+                keys = Arrays.copyOf(keys, capacity);
+                values = Arrays.copyOf(values, capacity);
+                left = Arrays.copyOf(left, capacity);
+                right = Arrays.copyOf(right, capacity);
+                height = Arrays.copyOf(height, capacity);
+            }
+            node = used++;
+        }
+        keys[node] = key;
+        values[node] = value;
+        left[node] = 0;
+        right[node] = 0;
+        height[node] = 1; // Leaf
+        return node; // Returns handle
+    } // Summary: Returns a leaf handle (O(1) amortized).
+
+    // Private method to return a handle to the free list
+    private void release(int node) { // Node is already unlinked
+        left[node] = free; // Links into free list
+        free = node;
+    } // Summary: Recycles a handle (O(1)).
+
+    // Main function with test cases
+    // Private benchmark comparing memory and speed with TreeMap<Integer, Long>
+    private static void benchmark() { // Prints timings and approximate bytes per entry
+        int n = 2_000_000; // Entries
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long before = runtime.totalMemory() - runtime.freeMemory();
+        long begin = System.nanoTime(); // Times primitive map
+        IntAVLMap primitive = new IntAVLMap(n);
+        for (int i = 0; i < n; i++) {
+            primitive.put(i * 0x9E3779B1, i);
+        }
+        long primitiveMs = (System.nanoTime() - begin) / 1_000_000;
+        System.gc();
+        long primitiveBytes = runtime.totalMemory() - runtime.freeMemory() - before;
+        begin = System.nanoTime(); // Times boxed map
+        java.util.TreeMap<Integer, Long> boxed = new java.util.TreeMap<>();
+        for (int i = 0; i < n; i++) {
+            boxed.put(i * 0x9E3779B1, (long) i);
+        }
+        long boxedMs = (System.nanoTime() - begin) / 1_000_000;
+        System.gc();
+        long boxedBytes = runtime.totalMemory() - runtime.freeMemory() - before - primitiveBytes;
+        System.out.printf("IntAVLMap: %d ms, ~%d bytes/entry; TreeMap: %d ms, ~%d bytes/entry (GC-dependent)%n",
+                primitiveMs, primitiveBytes / n, boxedMs, boxedBytes / n);
+        System.out.println("Same size: " + (primitive.size() == boxed.size()));
+    } // Summary: Times 2M puts into each map and estimates heap use; run with --bench.
+
+    public static void main(String[] args) { // Entry point for testing; pass --bench for timings
+        if (java.util.Arrays.asList(args).contains("--bench")) { // Benchmark only
+            benchmark();
+            return;
+        }
+        // Test Case 1: Basic operations
+        System.out.println("Test Case 1: Basic Operations");
+        System.out.println("-----------------------------");
+        IntAVLMap map = new IntAVLMap();
+        map.put(50, 500L);
+        map.put(30, 300L);
+        map.put(70, 700L);
+        map.put(30, 333L); // Replaces value
+        System.out.println("Size: " + map.size() + ", get(30): " + map.get(30, -1)); // Expected: 3, 333
+        System.out.println("floorKey(60): " + map.floorKey(60) + ", ceilingKey(60): " + map.ceilingKey(60)); // Expected: 50, 70
+        map.remove(50); // Root with two children
+        System.out.println("Contains 50? " + map.containsKey(50) + ", size: " + map.size()); // Expected: false, 2
+        Integer none = map.floorKey(0); // No key <= 0 yet
+        map.put(Integer.MIN_VALUE, 1L); // Keys at the int limits are ordinary keys, not "none"
+        System.out.println("floorKey(0) before/after put(MIN): " + none + "/" + map.floorKey(0)
+                + ", ceilingKey(71): " + map.ceilingKey(71)); // Expected: null/-2147483648, null
+        System.out.println();
+
+        // Test Case 2: Random operations against TreeMap
+        System.out.println("Test Case 2: Random Operations");
+        System.out.println("-----------------------------");
+        java.util.Random random = new java.util.Random(24); // Fixed seed
+        java.util.TreeMap<Integer, Long> reference = new java.util.TreeMap<>(); // Oracle
+        IntAVLMap map2 = new IntAVLMap();
+        boolean matches = true;
+        for (int i = 0; i < 300_000; i++) { // Mixed puts and removes
+            int key = random.nextInt(20_000);
+            if (random.nextInt(3) > 0) {
+                long value = random.nextLong();
+                matches &= map2.put(key, value) == (reference.put(key, value) == null);
+            } else {
+                matches &= map2.remove(key) == (reference.remove(key) != null);
+            }
+        }
+        long[] sum = new long[1]; // Sum of values in a range
+        map2.forEachInRange(5000, 6000, (k, v) -> sum[0] += v);
+        long expected = 0;
+        for (long v : reference.subMap(5000, true, 6000, true).values()) {
+            expected += v;
+        }
+        matches &= sum[0] == expected && map2.size() == reference.size();
+        for (int i = 0; i < 10_000; i++) { // Floor and ceiling, including keys outside the stored range
+            int key = random.nextInt(22_000) - 1000;
+            matches &= java.util.Objects.equals(map2.floorKey(key), reference.floorKey(key));
+            matches &= java.util.Objects.equals(map2.ceilingKey(key), reference.ceilingKey(key));
+        }
+        System.out.println("Matches TreeMap: " + matches); // Expected: true
+        System.out.println();
+
+        // Test Case 3: Hashed keys against TreeMap<Integer, Long> (memory and speed: run with --bench)
+        System.out.println("Test Case 3: Scattered Keys");
+        System.out.println("-----------------------------");
+        int n = 100_000; // Entries
+        IntAVLMap primitive = new IntAVLMap(n);
+        java.util.TreeMap<Integer, Long> boxed = new java.util.TreeMap<>();
+        for (int i = 0; i < n; i++) {
+            primitive.put(i * 0x9E3779B1, i);
+            boxed.put(i * 0x9E3779B1, (long) i);
+        }
+        java.util.Iterator<java.util.Map.Entry<Integer, Long>> entries = boxed.entrySet().iterator(); // Key order
+        boolean[] same = {primitive.size() == boxed.size()};
+        primitive.forEachInRange(Integer.MIN_VALUE, Integer.MAX_VALUE, (k, v) -> {
+            java.util.Map.Entry<Integer, Long> e = entries.next();
+            same[0] &= e.getKey() == k && e.getValue() == v;
+        });
+        System.out.println("Same entries in key order: " + same[0]); // Expected: true
+    } // Summary: Tests map operations and TreeMap agreement; --bench measures memory and speed.
+}
@@ -0,0 +1,438 @@
+package Concept; // Organizes class in package
+
+import java.util.Arrays; // Sorting and trimming
+
+public class IntHuffmanCoding { // Canonical Huffman coding over int symbols (token ids, word ids)
+
+    private static final int TABLE_BITS = 10; // Bits resolved per decode-table probe
+    private IntIntMap index; // Symbol -> canonical index
+    private int[] symbols; // Symbols in canonical order (by code length, then symbol)
+    private byte[] lengths; // Code length per canonical index
+    private long[] codes; // Code bits per canonical index
+    private long[] firstCode; // First canonical code of each length
+    private int[] firstIndex; // Canonical index of that code
+    private int[] countPerLength; // Codes of each length
+    private int[] tableIndex; // Canonical index for each TABLE_BITS-bit prefix
+    private byte[] tableLength; // Code length for each prefix, 0 if the code is longer than TABLE_BITS
+    private int minCodeLength; // Shortest code, bounds the decoded length
+    private int maxCodeLength; // Longest code
+
+    // Constructor to build codes from a symbol sequence
+    public IntHuffmanCoding(int[] input) { // Initializes coding
+        this(input, HuffmanCoding.MAX_CODE_LENGTH); // Only the accumulator bound
+    } // Summary: Sets up Huffman coding for the symbols of input.
+
+    // Constructor with a limit on code length
+    public IntHuffmanCoding(int[] input, int maxCodeLength) { // Initializes length-limited coding
+        if (input == null || input.length == 0) { // Validates input
+            throw new IllegalArgumentException("Input cannot be null or empty");
+        }
+        if (maxCodeLength < 1 || maxCodeLength > HuffmanCoding.MAX_CODE_LENGTH) { // Validates limit
+            throw new IllegalArgumentException("Maximum code length must be between 1 and " + HuffmanCoding.MAX_CODE_LENGTH);
+        }
+        IntIntMap ids = new IntIntMap(16); // Symbol -> dense id in order of first appearance
+        int[] distinct = new int[16]; // Symbol of each dense id
+        int[] freq = new int[16]; // Count of each dense id
+        for (int symbol : input) { // One probe per symbol, no boxing
+            int id = ids.putIfAbsent(symbol, ids.size());
+            if (id == distinct.length) { // Grows dense arrays
+                distinct = Arrays.copyOf(distinct, id * 2);
+                freq = Arrays.copyOf(freq, id * 2);
+            }
+            distinct[id] = symbol;
+            freq[id]++;
+        }
+        int k = ids.size(); // Alphabet size
+        freq = Arrays.copyOf(freq, k);
+        int[] codeLengths = HuffmanCoding.huffmanCodeLengths(freq); // Shared linear-time length builder
+        for (int length : codeLengths) {
+            if (length > maxCodeLength) { // Too deep, recompute optimal lengths under the limit
+                codeLengths = HuffmanCoding.limitedCodeLengths(freq, maxCodeLength);
+                break;
+            }
+        }
+        useCodeLengths(Arrays.copyOf(distinct, k), codeLengths); // Canonical codes and tables
+    } // Summary: Counts symbols in a primitive hash, then reuses HuffmanCoding's length builders (O(n + k log k)).
+
+    // Private constructor for fromHeader
+    private IntHuffmanCoding() { // Tables are filled by fromHeader
+    } // Summary: Creates an empty coder.
+
+    // Private method to install canonical codes for given lengths
+    private void useCodeLengths(int[] alphabet, int[] codeLengths) { // codeLengths[i] belongs to alphabet[i]
+        int k = alphabet.length; // Alphabet size
+        long[] keys = new long[k]; // (length << 32) | biased symbol, so sorting gives canonical order
+        for (int i = 0; i < k; i++) {
+            if (codeLengths[i] < 1 || codeLengths[i] > HuffmanCoding.MAX_CODE_LENGTH) { // Must fit the accumulators
+                throw new IllegalArgumentException("Code length " + codeLengths[i] + " out of range");
+            }
+            keys[i] = ((long) codeLengths[i] << 32) | ((alphabet[i] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+        }
+        Arrays.sort(keys); // By length, then signed symbol order
+        symbols = new int[k];
+        lengths = new byte[k];
+        codes = new long[k];
+        index = new IntIntMap(k);
+        minCodeLength = (int) (keys[0] >>> 32);
+        maxCodeLength = (int) (keys[k - 1] >>> 32);
+        firstCode = new long[maxCodeLength + 2];
+        firstIndex = new int[maxCodeLength + 2];
+        countPerLength = new int[maxCodeLength + 2];
+        long code = 0; // Running canonical code
+        int previous = minCodeLength; // Length of the previous code
+        for (int i = 0; i < k; i++) { // Codes increase by one, shifted when the length grows
+            int length = (int) (keys[i] >>> 32);
+            int symbol = (int) keys[i] ^ Integer.MIN_VALUE;
+            if (i > 0) {
+                code = (code + 1) << (length - previous);
+            }
+            if (countPerLength[length]++ == 0) { // First code of this length
+                firstCode[length] = code;
+                firstIndex[length] = i;
+            }
+            if (index.putIfAbsent(symbol, i) != i) { // Same symbol twice
+                throw new IllegalArgumentException("Duplicate symbol " + symbol);
+            }
+            symbols[i] = symbol;
+            lengths[i] = (byte) length;
+            codes[i] = code;
+            previous = length;
+        }
+        long available = 1; // Unused codes of the current length, at most 2^length so it cannot overflow
+        for (int length = 1; length <= maxCodeLength; length++) { // Kraft check one length at a time
+            available = (available << 1) - countPerLength[length];
+            if (available < 0) { // Over-subscribed lengths
+                throw new IllegalArgumentException("Code lengths do not form a prefix code");
+            }
+        }
+        tableIndex = new int[1 << TABLE_BITS]; // Fast-path table
+        tableLength = new byte[1 << TABLE_BITS];
+        for (int i = 0; i < k && lengths[i] <= TABLE_BITS; i++) { // Short codes fill every entry they prefix
+            int first = (int) (codes[i] << (TABLE_BITS - lengths[i]));
+            int last = first + (1 << (TABLE_BITS - lengths[i]));
+            Arrays.fill(tableIndex, first, last, i);
+            Arrays.fill(tableLength, first, last, lengths[i]);
+        }
+    } // Summary: Assigns canonical codes and builds encoder and decoder tables (O(k log k + 2^TABLE_BITS)).
+
+    // Public method to export the code-length header
+    public byte[] codeLengthHeader() { // Compact description of the code
+        byte[] header = new byte[4 + 5 * symbols.length]; // Count, then (symbol, length) pairs
+        putInt(header, 0, symbols.length);
+        for (int i = 0; i < symbols.length; i++) { // Canonical order
+            putInt(header, 4 + 5 * i, symbols[i]);
+            header[8 + 5 * i] = lengths[i];
+        }
+        return header; // Returns header
+    } // Summary: Serializes per-symbol code lengths (5 bytes per symbol plus 4).
+
+    // Public factory rebuilding a coder from a header
+    public static IntHuffmanCoding fromHeader(byte[] header) { // Inverse of codeLengthHeader
+        if (header == null || header.length < 4) { // Missing count
+            throw new IllegalArgumentException("Header too short");
+        }
+        int k = getInt(header, 0); // Symbol count
+        if (k <= 0 || header.length < 4 + 5L * k) { // Empty or truncated
+            throw new IllegalArgumentException("Header too short for " + k + " symbols");
+        }
+        int[] alphabet = new int[k];
+        int[] codeLengths = new int[k];
+        for (int i = 0; i < k; i++) {
+            alphabet[i] = getInt(header, 4 + 5 * i);
+            codeLengths[i] = header[8 + 5 * i] & 0xFF;
+        }
+        IntHuffmanCoding coder = new IntHuffmanCoding(); // Empty coder
+        coder.useCodeLengths(alphabet, codeLengths); // Canonical codes follow from lengths alone
+        return coder; // Returns coder
+    } // Summary: Rebuilds encoder and decoder tables from code lengths (O(k log k)).
+
+    // Public method to encode symbols into packed bits
+    public byte[] encode(int[] source) { // Same layout as HuffmanCoding.encodeToBytes
+        int[] ids = new int[source.length]; // Canonical index per symbol, looked up once
+        long totalBits = 0; // Exact output size in bits
+        for (int i = 0; i < source.length; i++) { // First pass: validates and sizes output
+            int id = index.get(source[i]);
+            if (id < 0) { // Symbol not in alphabet
+                throw new IllegalArgumentException("Symbol " + source[i] + " not in code");
+            }
+            ids[i] = id;
+            totalBits += lengths[id];
+        }
+        long payload = (totalBits + 7) >>> 3; // Bytes needed for the bits
+        if (payload > Integer.MAX_VALUE - 16) { // Beyond a Java array
+            throw new IllegalArgumentException("Encoded output too large for a byte array");
+        }
+        byte[] out = new byte[8 + (int) payload]; // Header plus packed bits
+        for (int i = 0; i < 8; i++) { // Header: bit count as 8-byte big-endian long
+            out[i] = (byte) (totalBits >>> (56 - 8 * i));
+        }
+        int pos = 8; // Next output byte
+        long acc = 0; // Bit accumulator, newest bits at the bottom
+        int bits = 0; // Pending bits in accumulator (always < 8 between symbols)
+        for (int id : ids) { // Second pass: writes codes
+            acc = (acc << lengths[id]) | codes[id]; // Appends code
+            bits += lengths[id];
+            while (bits >= 8) { // Flushes whole bytes
+                bits -= 8;
+                out[pos++] = (byte) (acc >>> bits);
+            }
+        }
+        if (bits > 0) { // Partial last byte, padded with zeros
+            out[pos] = (byte) (acc << (8 - bits));
+        }
+        return out; // Returns header and bits
+    } // Summary: Writes codes MSB-first behind an 8-byte bit-length header (O(n) time).
+
+    // Public method to decode packed bits
+    public int[] decode(byte[] encoded) { // Inverse of encode
+        if (encoded == null || encoded.length < 8) { // Missing header
+            throw new IllegalArgumentException("Encoded input must start with an 8-byte bit count");
+        }
+        long totalBits = 0; // Bit count from header
+        for (int i = 0; i < 8; i++) {
+            totalBits = (totalBits << 8) | (encoded[i] & 0xFF);
+        }
+        if (totalBits < 0 || totalBits > (long) (encoded.length - 8) * 8) { // Header disagrees with payload
+            throw new IllegalArgumentException("Corrupt input: bit count exceeds payload");
+        }
+        long maxSymbols = totalBits / minCodeLength; // Every symbol uses at least minCodeLength bits
+        if (maxSymbols > Integer.MAX_VALUE - 16) { // Beyond a Java array
+            throw new IllegalArgumentException("Decoded output too large for an array");
+        }
+        int[] out = new int[(int) maxSymbols]; // Upper bound on output
+        int count = 0; // Symbols written
+        int mask = (1 << TABLE_BITS) - 1; // Low TABLE_BITS bits
+        int pos = 8; // Next input byte
+        long window = 0; // Bit buffer, unread bits at the bottom
+        int available = 0; // Unread bits in window
+        long consumed = 0; // Bits decoded so far
+        while (consumed < totalBits) { // One symbol per iteration
+            while (available <= 56 && pos < encoded.length) { // Refills whole bytes
+                window = (window << 8) | (encoded[pos++] & 0xFF);
+                available += 8;
+            }
+            int peek = available >= TABLE_BITS // Next TABLE_BITS bits, zero-padded at the end
+                    ? (int) (window >>> (available - TABLE_BITS)) & mask
+                    : (int) (window << (TABLE_BITS - available)) & mask;
+            int length = tableLength[peek]; // Code length if it fits the table
+            int id; // Canonical index
+            if (length > 0) { // Fast path: one probe
+                id = tableIndex[peek];
+            } else { // Slow path: canonical codes of one length are consecutive
+                id = -1;
+                for (length = TABLE_BITS + 1; length <= maxCodeLength && length <= available; length++) {
+                    long code = (window >>> (available - length)) & ((1L << length) - 1); // Next length bits
+                    long offset = code - firstCode[length]; // Position among codes of this length
+                    if (countPerLength[length] > 0 && offset >= 0 && offset < countPerLength[length]) {
+                        id = firstIndex[length] + (int) offset;
+                        break;
+                    }
+                }
+                if (id < 0) { // No code matches
+                    throw new IllegalArgumentException("Corrupt input: invalid code at bit " + consumed);
+                }
+            }
+            if (consumed + length > totalBits) { // Code runs into the padding
+                throw new IllegalArgumentException("Corrupt input: truncated code at bit " + consumed);
+            }
+            out[count++] = symbols[id]; // Stores symbol
+            available -= length; // Consumes code
+            consumed += length;
+        }
+        return count == out.length ? out : Arrays.copyOf(out, count); // Trims to symbols decoded
+    } // Summary: Table probe for short codes, canonical first-code search for long ones (O(n) time).
+
+    // Public method returning the code length of a symbol
+    public int codeLength(int symbol) { // 0 if symbol is not in the code
+        int id = index.get(symbol);
+        return id < 0 ? 0 : lengths[id];
+    } // Summary: Looks up one code length.
+
+    // Public method returning the alphabet size
+    public int alphabetSize() { // Distinct symbols
+        return symbols.length;
+    } // Summary: Returns number of coded symbols.
+
+    // Private helpers for big-endian ints
+    private static void putInt(byte[] buffer, int pos, int value) { // Writes 4 bytes
+        for (int i = 0; i < 4; i++) {
+            buffer[pos + i] = (byte) (value >>> (24 - 8 * i));
+        }
+    } // Summary: Stores value big-endian.
+
+    private static int getInt(byte[] buffer, int pos) { // Reads 4 bytes
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            value = (value << 8) | (buffer[pos + i] & 0xFF);
+        }
+        return value;
+    } // Summary: Loads a big-endian int.
+
+    // Open-addressing int -> int hash map
+    private static class IntIntMap { // Linear probing, no boxing, no deletes
+        private int[] keys; // Slot keys
+        private int[] values; // Slot values
+        private boolean[] used; // Slot occupied
+        private int size; // Entries stored
+        private int mask; // Capacity - 1
+
+        IntIntMap(int expected) { // Sized for expected entries at load <= 1/2
+            int capacity = Integer.highestOneBit(Math.max(2, expected) * 2 - 1) << 1; // Power of two >= 2 * expected
+            keys = new int[capacity];
+            values = new int[capacity];
+            used = new boolean[capacity];
+            mask = capacity - 1;
+        } // Summary: Creates empty map.
+
+        private int slot(int key) { // Home slot
+            int h = key * 0x9E3779B9; // Fibonacci hashing spreads sequential ids
+            return (h ^ (h >>> 16)) & mask;
+        } // Summary: Hashes key to a slot.
+
+        int get(int key) { // Value for key, -1 if absent
+            for (int s = slot(key); used[s]; s = (s + 1) & mask) {
+                if (keys[s] == key) {
+                    return values[s];
+                }
+            }
+            return -1;
+        } // Summary: Looks up key (O(1) expected).
+
+        int putIfAbsent(int key, int value) { // Existing value, or value after inserting it
+            int s = slot(key);
+            for (; used[s]; s = (s + 1) & mask) {
+                if (keys[s] == key) {
+                    return values[s];
+                }
+            }
+            used[s] = true;
+            keys[s] = key;
+            values[s] = value;
+            if (++size * 2 > keys.length) { // Keeps load at most 1/2
+                grow();
+            }
+            return value;
+        } // Summary: Inserts key if new (O(1) expected).
+
+        int size() { // Entries stored
+            return size;
+        } // Summary: Returns entry count.
+
+        private void grow() { // Doubles capacity
+            int[] oldKeys = keys, oldValues = values;
+            boolean[] oldUsed = used;
+            keys = new int[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) { // Reinserts entries
+                if (oldUsed[i]) {
+                    int s = slot(oldKeys[i]);
+                    while (used[s]) {
+                        s = (s + 1) & mask;
+                    }
+                    used[s] = true;
+                    keys[s] = oldKeys[i];
+                    values[s] = oldValues[i];
+                }
+            }
+        } // Summary: Rehashes into twice the slots (O(capacity)).
+    } // Summary: Primitive symbol table.
+
+    // Main function with test cases
+    // Private helper producing word ids drawn from a Zipf distribution
+    private static int[] zipfTokens(int vocabulary, int count, long seed) { // Tokenizes synthetic text
+        java.util.HashMap<String, Integer> dictionary = new java.util.HashMap<>(); // Word -> id, built once
+        String[] words = new String[vocabulary];
+        for (int w = 0; w < vocabulary; w++) {
+            words[w] = "w" + Integer.toString(w, 36);
+            dictionary.put(words[w], w);
+        }
+        double[] cumulative = new double[vocabulary]; // Zipf distribution over word ranks
+        double total = 0;
+        for (int w = 0; w < vocabulary; w++) {
+            total += 1.0 / (w + 1);
+            cumulative[w] = total;
+        }
+        java.util.Random random = new java.util.Random(seed); // Fixed seed
+        int[] text = new int[count]; // Tokenized text
+        for (int i = 0; i < text.length; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            text[i] = dictionary.get(words[rank < 0 ? -rank - 1 : rank]); // Word to id
+        }
+        return text; // Returns ids
+    } // Summary: Returns count word ids over a vocabulary with Zipf-distributed ranks.
+
+    // Private benchmark timing build, encode and decode on 4M tokens
+    private static void benchmark() { // Prints timings
+        int[] text = zipfTokens(200_000, 4_000_000, 20); // Tokenized text
+        long begin = System.nanoTime(); // Times building
+        IntHuffmanCoding coder = new IntHuffmanCoding(text);
+        long buildMs = (System.nanoTime() - begin) / 1_000_000;
+        begin = System.nanoTime(); // Times encoding
+        byte[] packed = coder.encode(text);
+        long encodeMs = (System.nanoTime() - begin) / 1_000_000;
+        begin = System.nanoTime(); // Times decoding
+        int[] decoded = coder.decode(packed);
+        long decodeMs = (System.nanoTime() - begin) / 1_000_000;
+        System.out.println("Alphabet: " + coder.alphabetSize() + " words, " + text.length + " tokens");
+        System.out.printf("Bits per token: %.2f (vs 32 raw)%n", (packed.length - 8) * 8.0 / text.length);
+        System.out.println("Build " + buildMs + " ms, encode " + encodeMs + " ms, decode " + decodeMs + " ms");
+        System.out.println("Round trip: " + Arrays.equals(decoded, text));
+    } // Summary: Times the word-id coder on a 200k-word vocabulary; run with --bench.
+
+    public static void main(String[] args) { // Entry point for testing; pass --bench for timings
+        if (Arrays.asList(args).contains("--bench")) { // Benchmark only
+            benchmark();
+            return;
+        }
+        // Test Case 1: Small token stream
+        System.out.println("Test Case 1: Token Ids");
+        System.out.println("-----------------------------");
+        int[] tokens = {7, 7, 7, 7, 42, 42, -3, 100000, 7, 42}; // Arbitrary ints, including negative
+        IntHuffmanCoding coder = new IntHuffmanCoding(tokens);
+        System.out.println("Lengths: 7=" + coder.codeLength(7) + " 42=" + coder.codeLength(42) + " -3="
+                + coder.codeLength(-3) + " 100000=" + coder.codeLength(100000)); // Expected: 7=1 42=2 -3=3 100000=3
+        byte[] packed = coder.encode(tokens);
+        System.out.println("Round trip: " + Arrays.equals(coder.decode(packed), tokens)); // Expected: true
+        IntHuffmanCoding receiver = fromHeader(coder.codeLengthHeader()); // Rebuilt from lengths only
+        System.out.println("Receiver round trip: " + Arrays.equals(receiver.decode(packed), tokens)); // Expected: true
+        System.out.println();
+
+        // Test Case 2: Word-level compression with a large vocabulary (timings: run with --bench)
+        System.out.println("Test Case 2: Word Ids");
+        System.out.println("-----------------------------");
+        int[] text = zipfTokens(20_000, 200_000, 20); // Tokenized text
+        IntHuffmanCoding words2 = new IntHuffmanCoding(text);
+        byte[] packed2 = words2.encode(text);
+        System.out.println("Alphabet: " + words2.alphabetSize() + " words, " + text.length + " tokens"); // Expected: 16821 words, 200000 tokens
+        System.out.printf("Bits per token: %.2f (vs 32 raw)%n", (packed2.length - 8) * 8.0 / text.length); // Expected: 10.10
+        System.out.println("Round trip: " + Arrays.equals(words2.decode(packed2), text)); // Expected: true
+        System.out.println();
+
+        // Test Case 3: Length limit
+        System.out.println("Test Case 3: Length Limit");
+        System.out.println("-----------------------------");
+        IntHuffmanCoding limited = new IntHuffmanCoding(text, 16); // Caps codes at 16 bits (2^16 > alphabet size)
+        byte[] packed3 = limited.encode(text);
+        System.out.printf("Bits per token with 16-bit limit: %.2f%n", (packed3.length - 8) * 8.0 / text.length); // Expected: 10.14
+        System.out.println("Round trip: " + Arrays.equals(limited.decode(packed3), text)); // Expected: true
+        System.out.println();
+
+        // Test Case 4: Hostile header
+        System.out.println("Test Case 4: Corrupt Header");
+        System.out.println("-----------------------------");
+        byte[] corrupt = new byte[4 + 5 * 257]; // 256 symbols of length 1 plus one of length 57
+        putInt(corrupt, 0, 257);
+        for (int i = 0; i < 257; i++) {
+            putInt(corrupt, 4 + 5 * i, i);
+            corrupt[8 + 5 * i] = (byte) (i < 256 ? 1 : 57); // Lengths sum far past the Kraft limit
+        }
+        try {
+            fromHeader(corrupt);
+            System.out.println("Corrupt header: accepted");
+        } catch (IllegalArgumentException e) {
+            System.out.println("Corrupt header: " + e.getMessage()); // Expected: Code lengths do not form a prefix code
+        }
+    } // Summary: Tests small and word-level alphabets, headers, length limits and corrupt headers.
+}
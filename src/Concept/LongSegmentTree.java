@@ -0,0 +1,165 @@
+package Concept; // Organizes class in package
+
+import java.util.function.LongBinaryOperator; // Primitive combine function, no boxing
+
+public class LongSegmentTree { // Segment tree over long values for any associative operation
+
+    // Associative operation with an identity element (a monoid) over primitive longs
+    public interface LongMonoid { // Pluggable aggregate
+        long identity(); // Neutral element: combine(identity, x) == x
+
+        long combine(long a, long b); // Associative combine, need not be commutative
+
+        static LongMonoid of(long identity, LongBinaryOperator op) { // Builds a monoid from identity and operator
+            return new LongMonoid() {
+                @Override
+                public long identity() {
+                    return identity; // Returns neutral element
+                }
+
+                @Override
+                public long combine(long a, long b) {
+                    return op.applyAsLong(a, b); // Delegates to operator
+                }
+            };
+        } // Summary: Wraps identity and operator as a LongMonoid.
+    } // Summary: Describes the aggregate stored in every node.
+
+    // SUM uses Math.addExact, so construction, update and query throw ArithmeticException on long overflow
+    public static final LongMonoid SUM = LongMonoid.of(0L, Math::addExact); // Sum, throws on overflow instead of wrapping
+    public static final LongMonoid WRAPPING_SUM = LongMonoid.of(0L, Long::sum); // Sum modulo 2^64, never throws
+    public static final LongMonoid MIN = LongMonoid.of(Long.MAX_VALUE, Math::min); // Minimum
+    public static final LongMonoid MAX = LongMonoid.of(Long.MIN_VALUE, Math::max); // Maximum
+    public static final LongMonoid GCD = LongMonoid.of(0L, LongSegmentTree::gcd); // Greatest common divisor
+    public static final LongMonoid XOR = LongMonoid.of(0L, (a, b) -> a ^ b); // Bitwise xor
+
+    private final LongMonoid op; // Aggregate operation
+    private final long[] tree; // Flat layout: leaves at [n, 2n), node p has children 2p and 2p+1
+    private final int n; // Number of elements
+
+    // Constructor from long values
+    public LongSegmentTree(long[] values, LongMonoid op) { // Builds tree for values under op
+        this.op = op; // Stores operation
+        this.n = values == null ? 0 : values.length; // Stores element count
+        this.tree = new long[2 * n]; // One slot per node
+        for (int i = 0; i < n; i++) { // Copies leaves
+            tree[n + i] = values[i];
+        }
+        for (int p = n - 1; p >= 1; p--) { // Builds parents bottom-up
+            tree[p] = op.combine(tree[2 * p], tree[2 * p + 1]);
+        }
+    } // Summary: Creates tree in O(n) time with 2n longs of storage.
+
+    // Constructor from int values
+    public LongSegmentTree(int[] values, LongMonoid op) { // Widens ints to longs
+        this(toLongs(values), op); // Delegates to long constructor
+    } // Summary: Creates tree for int input without overflow in aggregates.
+
+    // Private helper to widen an int array
+    private static long[] toLongs(int[] values) { // Converts int[] to long[]
+        if (values == null) { // Null input
+            return null;
+        }
+        long[] result = new long[values.length]; // Widened copy
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i];
+        }
+        return result; // Returns copy
+    } // Summary: Returns a long copy of values.
+
+    // Private helper for greatest common divisor
+    private static long gcd(long a, long b) { // Euclid on absolute values
+        a = Math.abs(a); // Ignores sign
+        b = Math.abs(b); // Ignores sign
+        while (b != 0) { // Until remainder is zero
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a; // Returns gcd
+    } // Summary: Computes gcd(a, b), with gcd(0, x) = |x|.
+
+    // Returns number of elements
+    public int size() { // Element count
+        return n;
+    } // Summary: Returns number of elements.
+
+    // Returns current value at index
+    public long get(int index) { // Reads one leaf
+        if (index < 0 || index >= n) { // Invalid index
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + n);
+        }
+        return tree[n + index]; // Leaf value
+    } // Summary: Returns element at index (O(1) time).
+
+    // Public method for range query
+    public long rangeQuery(int left, int right) { // Aggregates [left, right]
+        if (n == 0 || left < 0 || right >= n || left > right) { // Invalid query
+            return op.identity(); // Neutral value
+        }
+        long resultLeft = op.identity(); // Aggregate of nodes taken from the left side
+        long resultRight = op.identity(); // Aggregate of nodes taken from the right side
+        for (int l = left + n, r = right + n + 1; l < r; l >>= 1, r >>= 1) { // Climbs both boundaries
+            if ((l & 1) == 1) { // Left is a right child
+                resultLeft = op.combine(resultLeft, tree[l++]); // Appends on the left side
+            }
+            if ((r & 1) == 1) { // Right is past a left child
+                resultRight = op.combine(tree[--r], resultRight); // Prepends on the right side
+            }
+        }
+        return op.combine(resultLeft, resultRight); // Joins both sides in order
+    } // Summary: Iterative range query that preserves operand order (O(log n) time).
+
+    // Public method for point update
+    public void update(int index, long value) { // Sets element at index
+        if (index < 0 || index >= n) { // Invalid index
+            return; // No update
+        }
+        int p = index + n; // Leaf index
+        tree[p] = value; // Sets leaf
+        for (p >>= 1; p >= 1; p >>= 1) { // Refreshes ancestors
+            tree[p] = op.combine(tree[2 * p], tree[2 * p + 1]);
+        }
+    } // Summary: Updates leaf and ancestors iteratively (O(log n) time).
+
+    // Main function with test cases
+    public static void main(String[] args) { // Entry point for testing
+        // Test Case 1: Sum that would overflow int
+        System.out.println("Test Case 1: Large Sums");
+        System.out.println("-----------------------------------------");
+        int[] big = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE}; // int overflow territory
+        LongSegmentTree sum = new LongSegmentTree(big, SUM); // Sum tree
+        System.out.println("Sum [0,2]: " + sum.rangeQuery(0, 2)); // Expected: 6442450941
+        long[] huge = {Long.MAX_VALUE, 1}; // Sum exceeds long range
+        try {
+            new LongSegmentTree(huge, SUM); // Build combines the two leaves
+            System.out.println("SUM overflow: no exception");
+        } catch (ArithmeticException e) {
+            System.out.println("SUM overflow: ArithmeticException"); // Expected
+        }
+        System.out.println("WRAPPING_SUM [0,1]: " + new LongSegmentTree(huge, WRAPPING_SUM).rangeQuery(0, 1)); // Expected: -9223372036854775808
+        System.out.println();
+
+        // Test Case 2: Min, max, gcd, xor
+        System.out.println("Test Case 2: Other Monoids");
+        System.out.println("-----------------------------------------");
+        long[] values = {12, 18, 24, 7, 30}; // Sample values
+        System.out.println("Min [0,4]: " + new LongSegmentTree(values, MIN).rangeQuery(0, 4)); // Expected: 7
+        System.out.println("Max [1,3]: " + new LongSegmentTree(values, MAX).rangeQuery(1, 3)); // Expected: 24
+        LongSegmentTree gcd = new LongSegmentTree(values, GCD); // Gcd tree
+        System.out.println("Gcd [0,2]: " + gcd.rangeQuery(0, 2)); // Expected: 6
+        gcd.update(1, 8); // 12, 8, 24
+        System.out.println("Gcd [0,2] after [1]=8: " + gcd.rangeQuery(0, 2)); // Expected: 4
+        System.out.println("Xor [2,3]: " + new LongSegmentTree(values, XOR).rangeQuery(2, 3)); // Expected: 24^7=31
+        System.out.println();
+
+        // Test Case 3: Custom non-commutative monoid (first non-zero value)
+        System.out.println("Test Case 3: Custom Monoid");
+        System.out.println("-----------------------------------------");
+        LongMonoid firstNonZero = LongMonoid.of(0L, (a, b) -> a != 0 ? a : b); // Leftmost non-zero wins
+        LongSegmentTree first = new LongSegmentTree(new long[]{0, 0, 9, 0, 5}, firstNonZero); // Sparse values
+        System.out.println("First non-zero [0,4]: " + first.rangeQuery(0, 4)); // Expected: 9
+        System.out.println("First non-zero [3,4]: " + first.rangeQuery(3, 4)); // Expected: 5
+        System.out.println("Invalid [3,1]: " + first.rangeQuery(3, 1)); // Expected: 0 (identity)
+    } // Summary: Tests long aggregates with built-in and custom monoids.
+}
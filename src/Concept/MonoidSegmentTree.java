@@ -0,0 +1,118 @@
+package Concept; // Organizes class in package
+
+public class MonoidSegmentTree<T> { // Segment tree over any value type and associative operation
+
+    // Associative operation with an identity element (a monoid)
+    public interface Monoid<T> { // Pluggable aggregate
+        T identity(); // Neutral element: combine(identity, x) == x
+
+        T combine(T a, T b); // Associative combine, need not be commutative
+    } // Summary: Describes the aggregate stored in every node.
+
+    private final Monoid<T> op; // Aggregate operation
+    private final Object[] tree; // Flat layout: leaves at [n, 2n), node p has children 2p and 2p+1
+    private final int n; // Number of elements
+
+    // Constructor
+    public MonoidSegmentTree(T[] values, Monoid<T> op) { // Builds tree for values under op
+        this.op = op; // Stores operation
+        this.n = values == null ? 0 : values.length; // Stores element count
+        this.tree = new Object[2 * n]; // One slot per node
+        for (int i = 0; i < n; i++) { // Copies leaves
+            tree[n + i] = values[i];
+        }
+        for (int p = n - 1; p >= 1; p--) { // Builds parents bottom-up
+            tree[p] = op.combine(node(2 * p), node(2 * p + 1));
+        }
+    } // Summary: Creates tree in O(n) time; use LongSegmentTree for primitive longs.
+
+    // Private typed accessor
+    @SuppressWarnings("unchecked")
+    private T node(int p) { // Reads node p
+        return (T) tree[p];
+    } // Summary: Returns node value with its element type.
+
+    // Returns number of elements
+    public int size() { // Element count
+        return n;
+    } // Summary: Returns number of elements.
+
+    // Returns current value at index
+    public T get(int index) { // Reads one leaf
+        if (index < 0 || index >= n) { // Invalid index
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + n);
+        }
+        return node(n + index); // Leaf value
+    } // Summary: Returns element at index (O(1) time).
+
+    // Public method for range query
+    public T rangeQuery(int left, int right) { // Aggregates [left, right]
+        if (n == 0 || left < 0 || right >= n || left > right) { // Invalid query
+            return op.identity(); // Neutral value
+        }
+        T resultLeft = op.identity(); // Aggregate of nodes taken from the left side
+        T resultRight = op.identity(); // Aggregate of nodes taken from the right side
+        for (int l = left + n, r = right + n + 1; l < r; l >>= 1, r >>= 1) { // Climbs both boundaries
+            if ((l & 1) == 1) { // Left is a right child
+                resultLeft = op.combine(resultLeft, node(l++)); // Appends on the left side
+            }
+            if ((r & 1) == 1) { // Right is past a left child
+                resultRight = op.combine(node(--r), resultRight); // Prepends on the right side
+            }
+        }
+        return op.combine(resultLeft, resultRight); // Joins both sides in order
+    } // Summary: Iterative range query that preserves operand order (O(log n) time).
+
+    // Public method for point update
+    public void update(int index, T value) { // Sets element at index
+        if (index < 0 || index >= n) { // Invalid index
+            return; // No update
+        }
+        int p = index + n; // Leaf index
+        tree[p] = value; // Sets leaf
+        for (p >>= 1; p >= 1; p >>= 1) { // Refreshes ancestors
+            tree[p] = op.combine(node(2 * p), node(2 * p + 1));
+        }
+    } // Summary: Updates leaf and ancestors iteratively (O(log n) time).
+
+    // Main function with test cases
+    public static void main(String[] args) { // Entry point for testing
+        // Test Case 1: String concatenation (order matters)
+        System.out.println("Test Case 1: String Concatenation");
+        System.out.println("-----------------------------------------");
+        Monoid<String> concat = new Monoid<String>() { // Non-commutative monoid
+            @Override
+            public String identity() {
+                return "";
+            }
+
+            @Override
+            public String combine(String a, String b) {
+                return a + b;
+            }
+        };
+        MonoidSegmentTree<String> words = new MonoidSegmentTree<>(new String[]{"a", "b", "c", "d", "e"}, concat); // Creates tree
+        System.out.println("Concat [1,3]: " + words.rangeQuery(1, 3)); // Expected: bcd
+        words.update(2, "X"); // Replaces c
+        System.out.println("Concat [0,4] after [2]=X: " + words.rangeQuery(0, 4)); // Expected: abXde
+        System.out.println();
+
+        // Test Case 2: Big integer sums
+        System.out.println("Test Case 2: BigInteger Sum");
+        System.out.println("-----------------------------------------");
+        Monoid<java.math.BigInteger> bigSum = new Monoid<java.math.BigInteger>() { // Arbitrary-precision sum
+            @Override
+            public java.math.BigInteger identity() {
+                return java.math.BigInteger.ZERO;
+            }
+
+            @Override
+            public java.math.BigInteger combine(java.math.BigInteger a, java.math.BigInteger b) {
+                return a.add(b);
+            }
+        };
+        java.math.BigInteger big = java.math.BigInteger.valueOf(Long.MAX_VALUE); // Largest long
+        MonoidSegmentTree<java.math.BigInteger> sums = new MonoidSegmentTree<>(new java.math.BigInteger[]{big, big}, bigSum); // Creates tree
+        System.out.println("Sum [0,1]: " + sums.rangeQuery(0, 1)); // Expected: 18446744073709551614
+    } // Summary: Tests generic tree with non-commutative and arbitrary-precision monoids.
+}
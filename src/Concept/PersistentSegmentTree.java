@@ -0,0 +1,255 @@
+package Concept; // Organizes class in package
+
+import java.util.Arrays; // For growing pool arrays
+
+public class PersistentSegmentTree { // Versioned range-sum tree using path copying
+
+    // Node pool: node i is (sum[i], left[i], right[i]); children are always allocated before their parent
+    private long[] sum; // Segment sums
+    private int[] left; // Left child index (-1 for leaves)
+    private int[] right; // Right child index (-1 for leaves)
+    private int count; // Nodes in use
+
+    private int[] roots; // Root node per version, -1 once released
+    private int versions; // Number of versions created
+    private int released; // Versions released since the last compaction
+    private final int n; // Number of elements
+    private final int depth; // Maximum root-to-leaf depth
+
+    // Constructor
+    public PersistentSegmentTree(int[] arr) { // Builds version 0 from array
+        n = arr == null ? 0 : arr.length; // Stores element count
+        int d = 0; // Depth of a balanced tree over n leaves
+        while ((1 << d) < n) {
+            d++;
+        }
+        depth = d; // Stores depth
+        int capacity = Math.max(2 * n, 16); // Initial pool holds the base tree exactly
+        sum = new long[capacity]; // Allocates sums
+        left = new int[capacity]; // Allocates left links
+        right = new int[capacity]; // Allocates right links
+        roots = new int[16]; // Version table
+        roots[versions++] = n == 0 ? -1 : build(arr, 0, n - 1); // Version 0
+    } // Summary: Creates version 0 with 2n - 1 pooled nodes (O(n) time).
+
+    // Private method to build a subtree
+    private int build(int[] arr, int start, int end) { // Builds nodes for [start, end]
+        if (start == end) { // Leaf
+            return newNode(arr[start], -1, -1); // Stores element
+        }
+        int mid = start + (end - start) / 2; // Splits range
+        int l = build(arr, start, mid); // Builds left first
+        int r = build(arr, mid + 1, end); // Builds right next
+        return newNode(sum[l] + sum[r], l, r); // Parent after children
+    } // Summary: Recursively builds base tree, children before parents (O(n) time).
+
+    // Private method to make room for upcoming allocations
+    private void reserve(int extra) { // Ensures extra free slots before an update starts
+        if (count + extra <= sum.length) { // Enough room
+            return;
+        }
+        if (released > 0) { // Try reclaiming released versions first
+            compact();
+        }
+        if (count + extra > sum.length) { // Still short
+            int capacity = Math.max(sum.length * 2, count + extra); // Doubles pool
+            sum = Arrays.copyOf(sum, capacity);
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+        }
+    } // Summary: Compacts or grows the pool up front so node indices stay stable during an update.
+
+    // Private method to allocate a pooled node
+    private int newNode(long value, int l, int r) { // Appends a node to the pool
+        sum[count] = value; // Sets sum
+        left[count] = l; // Sets left child
+        right[count] = r; // Sets right child
+        return count++; // Returns index
+    } // Summary: Returns a fresh node index from reserved pool space.
+
+    // Private method to look up a live root
+    private int root(int version) { // Validates version
+        if (version < 0 || version >= versions || roots[version] == -1 && n > 0) { // Unknown or released
+            throw new IllegalArgumentException("Version " + version + " does not exist or was released");
+        }
+        return roots[version]; // Root node
+    } // Summary: Returns root node of a live version.
+
+    // Returns newest version number
+    public int latestVersion() { // Most recent version
+        return versions - 1;
+    } // Summary: Returns id of the latest version.
+
+    // Returns number of pooled nodes
+    public int nodeCount() { // Pool usage
+        return count;
+    } // Summary: Returns nodes currently held in the pool.
+
+    // Public method for point update on the latest version
+    public int update(int index, int value) { // Sets element in a new version
+        return update(latestVersion(), index, value); // Branches from latest
+    } // Summary: Creates a new version from the latest one.
+
+    // Public method for point update on any version
+    public int update(int version, int index, int value) { // Creates version with array[index] = value
+        int node = root(version); // Validates base version
+        if (index < 0 || index >= n) { // Invalid index
+            return version; // No new version
+        }
+        reserve(depth + 1); // Room for the copied path
+        node = roots[version]; // Re-reads root, compaction may have moved it
+        int[] path = new int[depth + 1]; // Nodes on the root-to-leaf path
+        int start = 0, end = n - 1, length = 0; // Current segment
+        while (start != end) { // Descends to leaf
+            path[length++] = node; // Records ancestor
+            int mid = start + (end - start) / 2; // Splits range
+            if (index <= mid) { // Goes left
+                node = left[node];
+                end = mid;
+            } else { // Goes right
+                node = right[node];
+                start = mid + 1;
+            }
+        }
+        int child = newNode(value, -1, -1); // Copies leaf with new value
+        int previous = node; // Old node being replaced
+        while (length > 0) { // Copies ancestors bottom-up
+            int parent = path[--length]; // Old ancestor
+            int l = left[parent] == previous ? child : left[parent]; // Swaps in new left child
+            int r = right[parent] == previous ? child : right[parent]; // Swaps in new right child
+            int copy = newNode(sum[l] + sum[r], l, r); // New ancestor sharing the other subtree
+            previous = parent; // Moves up
+            child = copy; // New subtree root
+        }
+        if (versions == roots.length) { // Version table full
+            roots = Arrays.copyOf(roots, versions * 2);
+        }
+        roots[versions] = child; // Registers new root
+        return versions++; // Returns new version id
+    } // Summary: Path-copies O(log n) nodes and shares every other subtree with the base version.
+
+    // Public method for range sum on a version
+    public long rangeSum(int version, int left, int right) { // Queries sum in [left, right] as of version
+        int node = root(version); // Validates version
+        if (n == 0 || left < 0 || right >= n || left > right) { // Invalid query
+            return 0; // Returns 0
+        }
+        return prefix(node, right + 1) - prefix(node, left); // Difference of two prefix sums
+    } // Summary: Answers versioned range sum with two iterative descents (O(log n) time).
+
+    // Private method for prefix sum of the first k elements
+    private long prefix(int node, int k) { // Sums [0, k)
+        long result = 0; // Accumulated sum
+        int start = 0, end = n - 1; // Current segment
+        while (true) {
+            if (k > end) { // Segment fully inside prefix
+                return result + sum[node];
+            }
+            if (k <= start) { // Segment fully outside prefix
+                return result;
+            }
+            int mid = start + (end - start) / 2; // Splits range
+            if (k > mid) { // Left half fully inside
+                result += sum[left[node]]; // Takes left half
+                node = right[node]; // Continues right
+                start = mid + 1;
+            } else { // Prefix ends in left half
+                node = left[node];
+                end = mid;
+            }
+        }
+    } // Summary: Iterative prefix sum along one root-to-leaf path.
+
+    // Public method to release one version
+    public void release(int version) { // Drops a version's root
+        root(version); // Validates version
+        roots[version] = -1; // Marks released
+        released++; // Counts toward next compaction
+    } // Summary: Makes a version unreachable; its private nodes are reclaimed by compact().
+
+    // Public method to release all versions older than a given one
+    public void releaseBefore(int version) { // Drops versions [0, version)
+        for (int v = 0; v < version && v < versions; v++) { // Scans older versions
+            if (roots[v] != -1) {
+                roots[v] = -1; // Marks released
+                released++;
+            }
+        }
+    } // Summary: Releases every version older than the given one.
+
+    // Public method to reclaim nodes of released versions
+    public void compact() { // Rewrites pool with only reachable nodes
+        boolean[] live = new boolean[count]; // Reachability marks
+        for (int v = 0; v < versions; v++) { // Marks live roots
+            if (roots[v] != -1) {
+                live[roots[v]] = true;
+            }
+        }
+        for (int i = count - 1; i >= 0; i--) { // Children have smaller indices, so one descending pass marks all
+            if (live[i] && left[i] != -1) {
+                live[left[i]] = true;
+                live[right[i]] = true;
+            }
+        }
+        int[] remap = new int[count]; // Old index to new index
+        int kept = 0; // Nodes kept
+        for (int i = 0; i < count; i++) { // Slides live nodes down, preserving children-first order
+            if (live[i]) {
+                sum[kept] = sum[i];
+                left[kept] = left[i] == -1 ? -1 : remap[left[i]];
+                right[kept] = right[i] == -1 ? -1 : remap[right[i]];
+                remap[i] = kept++;
+            }
+        }
+        for (int v = 0; v < versions; v++) { // Redirects live roots
+            if (roots[v] != -1) {
+                roots[v] = remap[roots[v]];
+            }
+        }
+        count = kept; // Shrinks pool usage
+        released = 0; // Nothing left to reclaim
+    } // Summary: Mark-and-slide compaction in two linear passes (O(pool size) time).
+
+    // Main function with test cases
+    public static void main(String[] args) { // Entry point for testing
+        // Test Case 1: Versioned queries
+        System.out.println("Test Case 1: Versioned Queries");
+        System.out.println("-----------------------------------------");
+        PersistentSegmentTree pst = new PersistentSegmentTree(new int[]{1, 2, 3, 4, 5}); // Version 0
+        int v1 = pst.update(2, 10); // Version 1: [1,2,10,4,5]
+        int v2 = pst.update(0, 7); // Version 2: [7,2,10,4,5]
+        int v3 = pst.update(0, 4, 0); // Version 3 from version 0: [1,2,3,4,0]
+        System.out.println("Sum [0,4] v0: " + pst.rangeSum(0, 0, 4)); // Expected: 15
+        System.out.println("Sum [0,4] v1: " + pst.rangeSum(v1, 0, 4)); // Expected: 22
+        System.out.println("Sum [0,2] v2: " + pst.rangeSum(v2, 0, 2)); // Expected: 19
+        System.out.println("Sum [3,4] v3: " + pst.rangeSum(v3, 3, 4)); // Expected: 4
+        System.out.println();
+
+        // Test Case 2: Many versions share nodes
+        System.out.println("Test Case 2: Node Sharing");
+        System.out.println("-----------------------------------------");
+        int size = 1 << 16; // Elements
+        PersistentSegmentTree big = new PersistentSegmentTree(new int[size]); // All zeros
+        for (int i = 0; i < 100000; i++) { // 100k versions
+            big.update(i % size, 1);
+        }
+        System.out.println("Versions: " + (big.latestVersion() + 1)); // Expected: 100001
+        System.out.println("Nodes: " + big.nodeCount() + " (full copies would need " + (long) 100001 * (2 * size - 1) + ")");
+        System.out.println("Sum [0," + (size - 1) + "] latest: " + big.rangeSum(big.latestVersion(), 0, size - 1)); // Expected: 65536
+        System.out.println("Sum [0,9] v5: " + big.rangeSum(5, 0, 9)); // Expected: 5
+        System.out.println();
+
+        // Test Case 3: Releasing old versions
+        System.out.println("Test Case 3: Release and Compact");
+        System.out.println("-----------------------------------------");
+        big.releaseBefore(big.latestVersion()); // Keeps only the latest version
+        big.compact(); // Reclaims shared-nothing nodes
+        System.out.println("Nodes after compaction: " + big.nodeCount()); // Expected: 131071
+        System.out.println("Sum [0," + (size - 1) + "] latest: " + big.rangeSum(big.latestVersion(), 0, size - 1)); // Expected: 65536
+        try {
+            big.rangeSum(5, 0, 9); // Released version
+        } catch (IllegalArgumentException e) {
+            System.out.println("Error: " + e.getMessage()); // Expected: Version 5 does not exist or was released
+        }
+    } // Summary: Tests versioned queries, structural sharing, and release/compaction.
+}
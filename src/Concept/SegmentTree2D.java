@@ -0,0 +1,237 @@
+package Concept; // Organizes class in package
+
+public class SegmentTree2D { // Tree of segment trees for rectangle queries on a grid
+
+    // Flat layout: outer node i (over rows) owns an inner tree (over columns) stored at [i * width, (i + 1) * width)
+    // Both dimensions use the bottom-up scheme of SegmentTree: leaves at [n, 2n), node p has children 2p and 2p+1
+    private final long[] sum; // Rectangle sums
+    private final int[] min; // Rectangle minimums
+    private final int[] max; // Rectangle maximums
+    private final int rows; // Grid rows
+    private final int cols; // Grid columns
+    private final int width; // Inner tree slots per outer node (2 * cols)
+
+    // Constructor
+    public SegmentTree2D(int[][] grid) { // Builds tree for a rectangular grid
+        rows = grid == null ? 0 : grid.length; // Stores row count
+        cols = rows == 0 ? 0 : grid[0].length; // Stores column count
+        width = 2 * cols; // Inner tree size
+        sum = new long[2 * rows * width]; // All outer nodes times inner slots
+        min = new int[2 * rows * width]; // Minimum per cell
+        max = new int[2 * rows * width]; // Maximum per cell
+        for (int r = 0; r < rows; r++) { // Leaf rows: fill and build their column trees
+            if (grid[r].length != cols) { // Ragged input
+                throw new IllegalArgumentException("Grid rows must all have the same length");
+            }
+            int base = (rows + r) * width; // Inner tree of this row
+            for (int c = 0; c < cols; c++) {
+                sum[base + cols + c] = grid[r][c];
+                min[base + cols + c] = grid[r][c];
+                max[base + cols + c] = grid[r][c];
+            }
+            for (int j = cols - 1; j >= 1; j--) { // Column aggregates within the row
+                pullColumn(base, j);
+            }
+        }
+        for (int i = rows - 1; i >= 1; i--) { // Internal row nodes: merge the two child row trees slot by slot
+            for (int j = 1; j < width; j++) {
+                pullRow(i, j);
+            }
+        }
+    } // Summary: Builds in O(rows * cols) time using 4 * rows * cols slots per aggregate.
+
+    // Private method aggregating inner node j from its children in the same inner tree
+    private void pullColumn(int base, int j) { // Combines columns
+        sum[base + j] = sum[base + 2 * j] + sum[base + 2 * j + 1];
+        min[base + j] = Math.min(min[base + 2 * j], min[base + 2 * j + 1]);
+        max[base + j] = Math.max(max[base + 2 * j], max[base + 2 * j + 1]);
+    } // Summary: Sets inner node from its two column children.
+
+    // Private method aggregating slot j of outer node i from outer children 2i and 2i+1
+    private void pullRow(int i, int j) { // Combines rows
+        int slot = i * width + j; // Target slot
+        int a = 2 * i * width + j; // Same slot in left child row tree
+        int b = (2 * i + 1) * width + j; // Same slot in right child row tree
+        sum[slot] = sum[a] + sum[b];
+        min[slot] = Math.min(min[a], min[b]);
+        max[slot] = Math.max(max[a], max[b]);
+    } // Summary: Sets outer node slot from the matching slots of its two row children.
+
+    // Public method for point update
+    public void update(int row, int col, int value) { // Sets grid[row][col] to value
+        if (row < 0 || row >= rows || col < 0 || col >= cols) { // Invalid cell
+            return; // No update
+        }
+        int base = (rows + row) * width; // Leaf row tree
+        int j = cols + col; // Leaf column slot
+        sum[base + j] = value; // Updates sum
+        min[base + j] = value; // Updates min
+        max[base + j] = value; // Updates max
+        for (int q = j >> 1; q >= 1; q >>= 1) { // Column ancestors in the leaf row
+            pullColumn(base, q);
+        }
+        for (int i = (rows + row) >> 1; i >= 1; i >>= 1) { // Row ancestors
+            for (int q = j; q >= 1; q >>= 1) { // Only slots on the column path change
+                pullRow(i, q);
+            }
+        }
+    } // Summary: Refreshes O(log rows * log cols) slots.
+
+    // Private method to validate a rectangle
+    private boolean invalid(int row1, int col1, int row2, int col2) { // Checks bounds
+        return rows == 0 || cols == 0 || row1 < 0 || col1 < 0 || row2 >= rows || col2 >= cols
+                || row1 > row2 || col1 > col2; // Invalid query
+    } // Summary: Returns true if the rectangle is empty or out of bounds.
+
+    // Public method for rectangle sum query
+    public long rangeSum(int row1, int col1, int row2, int col2) { // Sum over rows [row1,row2] x cols [col1,col2]
+        if (invalid(row1, col1, row2, col2)) { // Invalid query
+            return 0; // Returns 0
+        }
+        long result = 0; // Accumulated sum
+        for (int t = row1 + rows, b = row2 + rows + 1; t < b; t >>= 1, b >>= 1) { // Outer climb over rows
+            if ((t & 1) == 1) {
+                result += sumColumns(t++, col1, col2);
+            }
+            if ((b & 1) == 1) {
+                result += sumColumns(--b, col1, col2);
+            }
+        }
+        return result; // Returns sum
+    } // Summary: Two nested bottom-up climbs (O(log rows * log cols) time).
+
+    // Private inner sum over columns of one outer node
+    private long sumColumns(int i, int col1, int col2) { // Column range sum inside row tree i
+        int base = i * width; // Inner tree
+        long result = 0; // Accumulated sum
+        for (int l = col1 + cols, r = col2 + cols + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                result += sum[base + l++];
+            }
+            if ((r & 1) == 1) {
+                result += sum[base + --r];
+            }
+        }
+        return result; // Returns sum
+    } // Summary: Bottom-up column sum (O(log cols) time).
+
+    // Public method for rectangle minimum query
+    public int rangeMin(int row1, int col1, int row2, int col2) { // Minimum over the rectangle
+        if (invalid(row1, col1, row2, col2)) { // Invalid query
+            return Integer.MAX_VALUE; // Returns max int
+        }
+        int result = Integer.MAX_VALUE; // Accumulated min
+        for (int t = row1 + rows, b = row2 + rows + 1; t < b; t >>= 1, b >>= 1) { // Outer climb over rows
+            if ((t & 1) == 1) {
+                result = Math.min(result, minColumns(t++, col1, col2));
+            }
+            if ((b & 1) == 1) {
+                result = Math.min(result, minColumns(--b, col1, col2));
+            }
+        }
+        return result; // Returns min
+    } // Summary: Rectangle minimum in O(log rows * log cols) time.
+
+    // Private inner minimum over columns of one outer node
+    private int minColumns(int i, int col1, int col2) { // Column range min inside row tree i
+        int base = i * width; // Inner tree
+        int result = Integer.MAX_VALUE; // Accumulated min
+        for (int l = col1 + cols, r = col2 + cols + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                result = Math.min(result, min[base + l++]);
+            }
+            if ((r & 1) == 1) {
+                result = Math.min(result, min[base + --r]);
+            }
+        }
+        return result; // Returns min
+    } // Summary: Bottom-up column minimum (O(log cols) time).
+
+    // Public method for rectangle maximum query
+    public int rangeMax(int row1, int col1, int row2, int col2) { // Maximum over the rectangle
+        if (invalid(row1, col1, row2, col2)) { // Invalid query
+            return Integer.MIN_VALUE; // Returns min int
+        }
+        int result = Integer.MIN_VALUE; // Accumulated max
+        for (int t = row1 + rows, b = row2 + rows + 1; t < b; t >>= 1, b >>= 1) { // Outer climb over rows
+            if ((t & 1) == 1) {
+                result = Math.max(result, maxColumns(t++, col1, col2));
+            }
+            if ((b & 1) == 1) {
+                result = Math.max(result, maxColumns(--b, col1, col2));
+            }
+        }
+        return result; // Returns max
+    } // Summary: Rectangle maximum in O(log rows * log cols) time.
+
+    // Private inner maximum over columns of one outer node
+    private int maxColumns(int i, int col1, int col2) { // Column range max inside row tree i
+        int base = i * width; // Inner tree
+        int result = Integer.MIN_VALUE; // Accumulated max
+        for (int l = col1 + cols, r = col2 + cols + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                result = Math.max(result, max[base + l++]);
+            }
+            if ((r & 1) == 1) {
+                result = Math.max(result, max[base + --r]);
+            }
+        }
+        return result; // Returns max
+    } // Summary: Bottom-up column maximum (O(log cols) time).
+
+    // Main function with test cases
+    public static void main(String[] args) { // Entry point for testing
+        // Test Case 1: Small grid
+        System.out.println("Test Case 1: Rectangle Queries");
+        System.out.println("-----------------------------------------");
+        int[][] grid = {
+                {1, 2, 3},
+                {4, 5, 6},
+                {7, 8, 9}
+        }; // 3x3 grid
+        SegmentTree2D st = new SegmentTree2D(grid); // Creates tree
+        System.out.println("Sum (0,0)-(2,2): " + st.rangeSum(0, 0, 2, 2)); // Expected: 45
+        System.out.println("Sum (1,1)-(2,2): " + st.rangeSum(1, 1, 2, 2)); // Expected: 28
+        System.out.println("Min (0,1)-(1,2): " + st.rangeMin(0, 1, 1, 2)); // Expected: 2
+        System.out.println("Max (0,0)-(1,1): " + st.rangeMax(0, 0, 1, 1)); // Expected: 5
+        st.update(1, 1, -10); // Center becomes -10
+        System.out.println("Min (0,0)-(2,2) after (1,1)=-10: " + st.rangeMin(0, 0, 2, 2)); // Expected: -10
+        System.out.println("Sum (0,0)-(2,2) after (1,1)=-10: " + st.rangeSum(0, 0, 2, 2)); // Expected: 30
+        System.out.println();
+
+        // Test Case 2: Randomized check against brute force
+        System.out.println("Test Case 2: Randomized Check");
+        System.out.println("-----------------------------------------");
+        java.util.Random random = new java.util.Random(8); // Fixed seed
+        int[][] heatmap = new int[37][53]; // Non-power-of-two sizes
+        for (int[] row : heatmap) {
+            for (int c = 0; c < row.length; c++) {
+                row[c] = random.nextInt(1000) - 500;
+            }
+        }
+        SegmentTree2D st2 = new SegmentTree2D(heatmap); // Creates tree
+        boolean ok = true; // Tracks mismatches
+        for (int step = 0; step < 3000; step++) {
+            int r1 = random.nextInt(37), r2 = random.nextInt(37), c1 = random.nextInt(53), c2 = random.nextInt(53);
+            int top = Math.min(r1, r2), bottom = Math.max(r1, r2), leftCol = Math.min(c1, c2), rightCol = Math.max(c1, c2);
+            if (step % 3 == 0) { // Update
+                heatmap[r1][c1] = random.nextInt(1000) - 500;
+                st2.update(r1, c1, heatmap[r1][c1]);
+            } else { // Query
+                long s = 0;
+                int mn = Integer.MAX_VALUE, mx = Integer.MIN_VALUE;
+                for (int r = top; r <= bottom; r++) {
+                    for (int c = leftCol; c <= rightCol; c++) {
+                        s += heatmap[r][c];
+                        mn = Math.min(mn, heatmap[r][c]);
+                        mx = Math.max(mx, heatmap[r][c]);
+                    }
+                }
+                ok &= st2.rangeSum(top, leftCol, bottom, rightCol) == s
+                        && st2.rangeMin(top, leftCol, bottom, rightCol) == mn
+                        && st2.rangeMax(top, leftCol, bottom, rightCol) == mx;
+            }
+        }
+        System.out.println("All queries match: " + ok); // Expected: true
+    } // Summary: Tests rectangle sum/min/max and point updates.
+}
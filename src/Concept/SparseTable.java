@@ -0,0 +1,86 @@
+package Concept; // Organizes class in package
+
+public class SparseTable { // Immutable table answering range min/max in O(1)
+
+    // Level k holds the min/max of every window of length 2^k: table[k][i] covers [i, i + 2^k)
+    private final int[][] minTable; // Window minimums per level
+    private final int[][] maxTable; // Window maximums per level
+    private final int n; // Number of elements
+
+    // Constructor from an array
+    public SparseTable(int[] arr) { // Precomputes all power-of-two windows
+        n = arr == null ? 0 : arr.length; // Stores element count
+        int levels = n == 0 ? 0 : 32 - Integer.numberOfLeadingZeros(n); // floor(log2 n) + 1
+        minTable = new int[levels][]; // One row per window length
+        maxTable = new int[levels][]; // One row per window length
+        if (n == 0) { // Nothing to precompute
+            return;
+        }
+        minTable[0] = arr.clone(); // Windows of length 1
+        maxTable[0] = minTable[0]; // Same values, shared since the table is never modified
+        for (int k = 1; k < levels; k++) { // Doubles window length
+            int half = 1 << (k - 1); // Previous window length
+            int count = n - (1 << k) + 1; // Windows that fit
+            int[] mins = new int[count]; // This level's minimums
+            int[] maxes = new int[count]; // This level's maximums
+            int[] prevMin = minTable[k - 1], prevMax = maxTable[k - 1]; // Previous level
+            for (int i = 0; i < count; i++) { // Two overlapping halves
+                mins[i] = Math.min(prevMin[i], prevMin[i + half]);
+                maxes[i] = Math.max(prevMax[i], prevMax[i + half]);
+            }
+            minTable[k] = mins; // Stores level
+            maxTable[k] = maxes; // Stores level
+        }
+    } // Summary: Builds in O(n log n) time and space; the input array is copied, not kept.
+
+    // Constructor from a segment tree's current contents
+    public SparseTable(SegmentTree tree) { // Freezes a segment tree for read-only use
+        this(tree.toArray()); // Snapshot including pending range updates
+    } // Summary: Creates a static snapshot of a SegmentTree for constant-time min/max queries.
+
+    // Private method to validate a query range
+    private boolean invalid(int left, int right) { // Checks bounds
+        return n == 0 || left < 0 || right >= n || left > right; // Invalid query
+    } // Summary: Returns true if [left, right] is empty or out of bounds.
+
+    // Public method for range minimum query
+    public int rangeMin(int left, int right) { // Queries minimum in [left, right]
+        if (invalid(left, right)) { // Invalid query
+            return Integer.MAX_VALUE; // Same sentinel as SegmentTree
+        }
+        int k = 31 - Integer.numberOfLeadingZeros(right - left + 1); // Largest power of two that fits
+        return Math.min(minTable[k][left], minTable[k][right - (1 << k) + 1]); // Two overlapping windows
+    } // Summary: Range minimum in O(1) time.
+
+    // Public method for range maximum query
+    public int rangeMax(int left, int right) { // Queries maximum in [left, right]
+        if (invalid(left, right)) { // Invalid query
+            return Integer.MIN_VALUE; // Same sentinel as SegmentTree
+        }
+        int k = 31 - Integer.numberOfLeadingZeros(right - left + 1); // Largest power of two that fits
+        return Math.max(maxTable[k][left], maxTable[k][right - (1 << k) + 1]); // Two overlapping windows
+    } // Summary: Range maximum in O(1) time.
+
+    // Main function with test cases
+    public static void main(String[] args) { // Entry point for testing
+        // Test Case 1: Direct construction
+        System.out.println("Test Case 1: Static Queries");
+        System.out.println("-----------------------------------------");
+        SparseTable table = new SparseTable(new int[]{5, 2, 8, 1, 9, 3, 7}); // Creates table
+        System.out.println("Min [0,6]: " + table.rangeMin(0, 6)); // Expected: 1
+        System.out.println("Min [0,2]: " + table.rangeMin(0, 2)); // Expected: 2
+        System.out.println("Max [2,5]: " + table.rangeMax(2, 5)); // Expected: 9
+        System.out.println("Max [5,6]: " + table.rangeMax(5, 6)); // Expected: 7
+        System.out.println("Min [4,2]: " + table.rangeMin(4, 2)); // Expected: 2147483647 (invalid)
+        System.out.println();
+
+        // Test Case 2: Snapshot of a segment tree after updates
+        System.out.println("Test Case 2: From SegmentTree");
+        System.out.println("-----------------------------------------");
+        SegmentTree st = new SegmentTree(new int[]{1, 2, 3, 4, 5}); // Creates tree
+        st.rangeUpdate(1, 3, 5); // [1,7,8,9,5]
+        SparseTable frozen = new SparseTable(st); // Snapshot
+        System.out.println("Min [1,4]: " + frozen.rangeMin(1, 4) + " (tree: " + st.rangeMin(1, 4) + ")"); // Expected: 5
+        System.out.println("Max [0,2]: " + frozen.rangeMax(0, 2) + " (tree: " + st.rangeMax(0, 2) + ")"); // Expected: 8
+    } // Summary: Tests constant-time range min/max and snapshotting a SegmentTree.
+}